@@ -0,0 +1,62 @@
+#!/bin/bash
+# Compares startup time and resident memory of the standard and the startup-optimised image.
+# Usage: ./benchmark-startup.sh [runs]
+# Every run starts a fresh container with fixed CPU and memory limits, so results are comparable across machines
+# of the same kind. Reported values are medians over the runs.
+
+RUNS=${1:-10}
+CPUS=${CPUS:-2}
+MEMORY=${MEMORY:-1g}
+TIMEOUT_SECONDS=120
+
+if ! docker info > /dev/null 2>&1; then
+  echo "Error: Docker is not running or not installed."
+  exit 1
+fi
+
+echo "Building images..."
+docker build -q --target standard -t gds-swe-challenge:standard . > /dev/null || exit 1
+docker build -q -t gds-swe-challenge:startup . > /dev/null || exit 1
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { if (NR % 2) print values[(NR + 1) / 2]; else print (values[NR / 2] + values[NR / 2 + 1]) / 2 }'
+}
+
+measure() {
+  local image=$1
+  local startup_file rss_file
+  startup_file=$(mktemp)
+  rss_file=$(mktemp)
+
+  for ((run = 1; run <= RUNS; run++)); do
+    local container
+    container=$(docker run -d --cpus "$CPUS" --memory "$MEMORY" "$image")
+
+    # Spring Boot logs the JVM uptime once the application has started
+    local started=""
+    for ((waited = 0; waited < TIMEOUT_SECONDS * 10; waited++)); do
+      started=$(docker logs "$container" 2>&1 | grep -o 'process running for [0-9.]*' | grep -o '[0-9.]*$')
+      [ -n "$started" ] && break
+      sleep 0.1
+    done
+
+    if [ -z "$started" ]; then
+      echo "Error: $image did not start within ${TIMEOUT_SECONDS}s" >&2
+      docker logs "$container" 2>&1 | tail -20 >&2
+      docker rm -f "$container" > /dev/null
+      exit 1
+    fi
+
+    echo "$started" >> "$startup_file"
+    docker exec "$container" grep VmRSS /proc/1/status | awk '{ print $2 / 1024 }' >> "$rss_file"
+    docker rm -f "$container" > /dev/null
+  done
+
+  printf "%-30s %12s s %12s MB\n" "$image" "$(median < "$startup_file")" "$(median < "$rss_file")"
+  rm -f "$startup_file" "$rss_file"
+}
+
+echo "Median over $RUNS runs (--cpus $CPUS --memory $MEMORY)"
+printf "%-30s %14s %15s\n" "Image" "Startup" "RSS"
+measure gds-swe-challenge:standard
+measure gds-swe-challenge:startup
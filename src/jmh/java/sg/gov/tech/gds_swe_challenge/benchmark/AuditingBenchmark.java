@@ -0,0 +1,83 @@
+package sg.gov.tech.gds_swe_challenge.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sg.gov.tech.gds_swe_challenge.config.AuditorContext;
+import sg.gov.tech.gds_swe_challenge.entity.User;
+import sg.gov.tech.gds_swe_challenge.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk audited inserts with the auditor bound once for the unit of work, as {@code AuditorContextFilter} does
+ * for a request, and the cost of the per-write auditor lookup on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditingBenchmark {
+    private static final String AUDITOR = "alice";
+
+    @Param({"1", "100", "1000"})
+    public int batchSize;
+
+    private final AtomicLong userIds = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+    private AuditorAware<?> auditorAware;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start();
+        userRepository = context.getBean(UserRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        auditorAware = context.getBean(AuditorAware.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<User> saveAllAudited() {
+        List<User> users = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            User user = new User();
+            user.setUsername("audited-" + userIds.incrementAndGet());
+            users.add(user);
+        }
+        List<User> saved = new ArrayList<>(batchSize);
+        AuditorContext.runAs(AUDITOR, () -> transactionTemplate.executeWithoutResult(status ->
+                saved.addAll(userRepository.saveAll(users))));
+        return saved;
+    }
+
+    @Benchmark
+    public Optional<?> resolveAuditor() {
+        return AuditorContext.callAs(AUDITOR, auditorAware::getCurrentAuditor);
+    }
+}
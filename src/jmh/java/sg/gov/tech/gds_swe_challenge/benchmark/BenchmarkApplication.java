@@ -0,0 +1,38 @@
+package sg.gov.tech.gds_swe_challenge.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import sg.gov.tech.gds_swe_challenge.GdsSweChallengeApplication;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Boots the application for a benchmark trial against a private in-memory H2 database.
+ */
+final class BenchmarkApplication {
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        return start(WebApplicationType.NONE, properties);
+    }
+
+    /**
+     * Properties are passed as command line arguments, since default properties would lose to application.yaml and
+     * the per-benchmark flags would silently have no effect. The database is kept open for the whole trial, even
+     * while no pooled connection holds it.
+     */
+    static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... properties) {
+        String[] args = Stream.concat(
+                        Stream.of("spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1", "logging.level.root=WARN"),
+                        Arrays.stream(properties))
+                .map(property -> "--" + property)
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(GdsSweChallengeApplication.class)
+                .web(webApplicationType)
+                .logStartupInfo(false)
+                .run(args);
+    }
+}
@@ -0,0 +1,85 @@
+package sg.gov.tech.gds_swe_challenge.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Seeds benchmark datasets with plain JDBC batches, bypassing the services under test.
+ */
+final class DataSeeder {
+    private static final int BATCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    DataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    List<String> insertUsers(String prefix, int count) {
+        List<String> usernames = IntStream.range(0, count)
+                .mapToObj(i -> prefix + i)
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO app_user (username, can_initiate_session, created_at, created_by) " +
+                        "VALUES (?, false, CURRENT_TIMESTAMP, 'SYSTEM')",
+                usernames, BATCH_SIZE, (ps, username) -> ps.setString(1, username));
+        return usernames;
+    }
+
+    long insertSession(String name, String createdBy) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO session (name, is_closed, created_at, created_by) " +
+                            "VALUES (?, false, CURRENT_TIMESTAMP, ?)",
+                    new String[]{"id"});
+            ps.setString(1, name);
+            ps.setString(2, createdBy);
+            return ps;
+        }, keyHolder);
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+    void insertRestaurants(long sessionId, int count) {
+        List<Integer> ordinals = IntStream.range(0, count).boxed().toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO restaurant (id, name, normalized_name, session_id, session_ordinal, created_at, created_by) " +
+                        "VALUES (NEXT VALUE FOR restaurant_seq, ?, ?, ?, ?, CURRENT_TIMESTAMP, 'SYSTEM')",
+                ordinals, BATCH_SIZE, (ps, ordinal) -> {
+                    String name = "Restaurant " + ordinal;
+                    ps.setString(1, name);
+                    ps.setString(2, Restaurant.normalize(name));
+                    ps.setLong(3, sessionId);
+                    ps.setLong(4, ordinal);
+                });
+        jdbcTemplate.update("UPDATE session SET restaurant_count = restaurant_count + ? WHERE id = ?",
+                count, sessionId);
+        jdbcTemplate.update("MERGE INTO session_submitter KEY (session_id, username) VALUES (?, 'SYSTEM')",
+                sessionId);
+        jdbcTemplate.update("UPDATE session SET submitter_count = "
+                + "(SELECT COUNT(*) FROM session_submitter WHERE session_id = ?) WHERE id = ?", sessionId, sessionId);
+    }
+
+    void inviteUsers(long sessionId, List<String> usernames) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO session_invited_users (session_id, user_username) VALUES (?, ?)",
+                usernames, BATCH_SIZE, (ps, username) -> {
+                    ps.setLong(1, sessionId);
+                    ps.setString(2, username);
+                });
+        jdbcTemplate.update("UPDATE session SET invitee_count = invitee_count + ? WHERE id = ?",
+                usernames.size(), sessionId);
+    }
+
+    void reopenSession(long sessionId) {
+        jdbcTemplate.update("UPDATE session SET is_closed = false, selected_restaurant = NULL WHERE id = ?",
+                sessionId);
+    }
+}
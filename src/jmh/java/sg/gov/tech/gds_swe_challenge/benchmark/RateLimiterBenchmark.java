@@ -0,0 +1,74 @@
+package sg.gov.tech.gds_swe_challenge.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import sg.gov.tech.gds_swe_challenge.config.RateLimitProperties;
+import sg.gov.tech.gds_swe_challenge.config.RateLimitProperties.Limit;
+import sg.gov.tech.gds_swe_challenge.service.RateLimiter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cost of an allowed request in the rate limiter under contention. With {@code sharedClient} every thread
+ * hits the same bucket, the worst case for the compare-and-set loop; otherwise each thread has its own bucket.
+ * The limit is set high enough that no request is rejected. The allowed path should stay well under a microsecond.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class RateLimiterBenchmark {
+    private static final String ENDPOINT = "POST /restaurant/submit";
+
+    @Param({"true", "false"})
+    public boolean sharedClient;
+
+    private final AtomicInteger threadIds = new AtomicInteger();
+    private RateLimiter rateLimiter;
+
+    @State(Scope.Thread)
+    public static class Client {
+        private String name;
+
+        @Setup(Level.Trial)
+        public void setup(RateLimiterBenchmark benchmark) {
+            name = benchmark.sharedClient ? "alice" : "user-" + benchmark.threadIds.incrementAndGet();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Limit unlimited = new Limit(1_000_000_000, Integer.MAX_VALUE);
+        rateLimiter = new RateLimiter(new RateLimitProperties(true, unlimited, Map.of(), Duration.ofMinutes(1), 100_000),
+                new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        rateLimiter.shutdown();
+    }
+
+    @Benchmark
+    public long tryAcquire(Client client) {
+        return rateLimiter.tryAcquire(ENDPOINT, client.name);
+    }
+}
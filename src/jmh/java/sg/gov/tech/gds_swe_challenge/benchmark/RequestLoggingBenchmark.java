@@ -0,0 +1,73 @@
+package sg.gov.tech.gds_swe_challenge.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@code GET /session/{id}/summary} over HTTP with request logging off, sampled
+ * ({@code app.logging.sampling.controller} as configured) and logging every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class RequestLoggingBenchmark {
+    @Param({"off", "sampled", "all"})
+    public String logging;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start(WebApplicationType.SERVLET,
+                "server.port=0",
+                "app.rate-limit.enabled=false",
+                "logging.level.sg.gov.tech.gds_swe_challenge=" + ("off".equals(logging) ? "WARN" : "INFO"),
+                "app.logging.sampling.controller=" + ("all".equals(logging) ? "1.0" : "0.1"));
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:%d/session/0/summary".formatted(port)))
+                .header("X-Username", "alice")
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getSessionSummary() throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,94 @@
+package sg.gov.tech.gds_swe_challenge.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sg.gov.tech.gds_swe_challenge.dto.SubmitRestaurantRequest;
+import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
+import sg.gov.tech.gds_swe_challenge.repository.RestaurantRepository;
+import sg.gov.tech.gds_swe_challenge.service.RestaurantService;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Restaurant submission and random draw latency against a session seeded with {@code restaurants} rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestaurantBenchmark {
+    private static final String CREATOR = "alice";
+
+    @Param({"1000", "100000"})
+    public int restaurants;
+
+    private ConfigurableApplicationContext context;
+    private RestaurantService restaurantService;
+    private RestaurantRepository restaurantRepository;
+    private DataSeeder seeder;
+    private long drawSessionId;
+    private long submitSessionId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start();
+        restaurantService = context.getBean(RestaurantService.class);
+        restaurantRepository = context.getBean(RestaurantRepository.class);
+        seeder = new DataSeeder(context.getBean(JdbcTemplate.class));
+
+        drawSessionId = seeder.insertSession("benchmark-draw", CREATOR);
+        seeder.insertRestaurants(drawSessionId, restaurants);
+        submitSessionId = seeder.insertSession("benchmark-submit", CREATOR);
+        seeder.insertRestaurants(submitSessionId, restaurants);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Reopens the draw session before every draw, as each draw closes it.
+     */
+    @State(Scope.Thread)
+    public static class OpenDrawSession {
+        @Setup(Level.Invocation)
+        public void reopen(RestaurantBenchmark benchmark) {
+            benchmark.seeder.reopenSession(benchmark.drawSessionId);
+        }
+    }
+
+    @Benchmark
+    public Restaurant addRestaurant() {
+        return restaurantService.addRestaurant(
+                new SubmitRestaurantRequest("Kopitiam", submitSessionId, "benchmark-submit"), CREATOR);
+    }
+
+    @Benchmark
+    public Restaurant getRandomRestaurant(OpenDrawSession openDrawSession) {
+        return restaurantService.getRandomRestaurant(drawSessionId, CREATOR);
+    }
+
+    @Benchmark
+    public Optional<Restaurant> findByTicket() {
+        long ticket = ThreadLocalRandom.current().nextLong(restaurants);
+        return restaurantRepository.findByTicket(drawSessionId, ticket);
+    }
+}
@@ -0,0 +1,102 @@
+package sg.gov.tech.gds_swe_challenge.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sg.gov.tech.gds_swe_challenge.dto.SessionSummary;
+import sg.gov.tech.gds_swe_challenge.entity.Session;
+import sg.gov.tech.gds_swe_challenge.repository.SessionRepository;
+import sg.gov.tech.gds_swe_challenge.service.SessionService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Invitation and membership latency for sessions with {@code invitees} invited users.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionBenchmark {
+    private static final String CREATOR = "alice";
+
+    @Param({"10", "100", "5000"})
+    public int invitees;
+
+    private ConfigurableApplicationContext context;
+    private SessionService sessionService;
+    private SessionRepository sessionRepository;
+    private DataSeeder seeder;
+    private List<String> usernames;
+    private Session memberSession;
+    private String lastInvitee;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start();
+        sessionService = context.getBean(SessionService.class);
+        sessionRepository = context.getBean(SessionRepository.class);
+        seeder = new DataSeeder(context.getBean(JdbcTemplate.class));
+
+        usernames = seeder.insertUsers("benchmark-user-", invitees);
+        long memberSessionId = seeder.insertSession("benchmark-members", CREATOR);
+        seeder.inviteUsers(memberSessionId, usernames);
+        memberSession = sessionService.getSession(memberSessionId);
+        lastInvitee = usernames.getLast();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * A fresh session without invitees for every invite call.
+     */
+    @State(Scope.Thread)
+    public static class EmptySession {
+        long sessionId;
+
+        @Setup(Level.Invocation)
+        public void create(SessionBenchmark benchmark) {
+            sessionId = benchmark.seeder.insertSession("benchmark-invite", CREATOR);
+        }
+    }
+
+    @Benchmark
+    public Session inviteUser(EmptySession emptySession) {
+        return sessionService.inviteUser(emptySession.sessionId, CREATOR, usernames);
+    }
+
+    @Benchmark
+    public Session validateUserCanSubmit() {
+        sessionService.validateUserCanSubmit(memberSession, lastInvitee);
+        return memberSession;
+    }
+
+    @Benchmark
+    public boolean existsInvitedUser() {
+        return sessionRepository.existsInvitedUser(memberSession.getId(), lastInvitee);
+    }
+
+    @Benchmark
+    public List<SessionSummary> findSummaries() {
+        return sessionRepository.findSummaries(null, null, null, PageRequest.ofSize(50));
+    }
+}
@@ -0,0 +1,56 @@
+package sg.gov.tech.gds_swe_challenge.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import sg.gov.tech.gds_swe_challenge.dto.SubmitRestaurantRequest;
+import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
+import sg.gov.tech.gds_swe_challenge.service.RestaurantService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent submission throughput to the global session, with and without write-behind batching.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class SubmissionBatchingBenchmark {
+    @Param({"false", "true"})
+    public boolean batching;
+
+    private ConfigurableApplicationContext context;
+    private RestaurantService restaurantService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start("app.restaurant.submission.batching-enabled=" + batching);
+        restaurantService = context.getBean(RestaurantService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Restaurant addRestaurant() {
+        return restaurantService.addRestaurant(new SubmitRestaurantRequest("Kopitiam"), "alice");
+    }
+}
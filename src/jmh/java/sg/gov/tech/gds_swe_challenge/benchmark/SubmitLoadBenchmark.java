@@ -0,0 +1,87 @@
+package sg.gov.tech.gds_swe_challenge.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Load test for {@code POST /restaurant/submit} over HTTP: time to serve a burst of
+ * {@code concurrentRequests} simultaneous submissions, with and without virtual threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SubmitLoadBenchmark {
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"200", "1000"})
+    public int concurrentRequests;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start(WebApplicationType.SERVLET,
+                "server.port=0",
+                virtualThreads ? "spring.profiles.active=virtual-threads" : "spring.threads.virtual.enabled=false",
+                "app.rate-limit.enabled=false");
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:%d/restaurant/submit".formatted(port)))
+                .header("Content-Type", "application/json")
+                .header("X-Username", "alice")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Kopitiam\"}"))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    /**
+     * @return number of submissions answered with 201 Created
+     */
+    @Benchmark
+    public long submitBurst() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = IntStream.range(0, concurrentRequests)
+                .mapToObj(i -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()))
+                .toList();
+        return responses.stream()
+                .map(CompletableFuture::join)
+                .filter(response -> response.statusCode() == 201)
+                .count();
+    }
+}
@@ -0,0 +1,96 @@
+package sg.gov.tech.gds_swe_challenge.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Imports a generated CSV of {@code users} rows through the user import job.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class UserImportBenchmark {
+    private static final String USERNAME_PREFIX = "import-user-";
+
+    @Param({"1000000"})
+    public int users;
+
+    @Param({"1", "4", "8"})
+    public int gridSize;
+
+    private Path csvFile;
+    private ConfigurableApplicationContext context;
+    private JobOperator jobOperator;
+    private Job importJob;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        csvFile = Files.createTempFile("users-", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csvFile)) {
+            writer.write("username,canInitiateSession");
+            writer.newLine();
+            for (int i = 0; i < users; i++) {
+                writer.write(USERNAME_PREFIX + i + "," + (i % 2 == 0));
+                writer.newLine();
+            }
+        }
+
+        context = BenchmarkApplication.start(
+                "spring.batch.job.enabled=false",
+                "app.user-import.file=" + csvFile.toUri(),
+                "app.user-import.grid-size=" + gridSize);
+        jobOperator = context.getBean(JobOperator.class);
+        importJob = context.getBean("loadDefaultUsersJob", Job.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void deleteImportedUsers() {
+        jdbcTemplate.update("DELETE FROM app_user WHERE username LIKE ?", USERNAME_PREFIX + "%");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(csvFile);
+    }
+
+    @Benchmark
+    public BatchStatus importUsers() throws Exception {
+        JobExecution execution = jobOperator.start(importJob, new JobParametersBuilder()
+                .addLong("run", System.nanoTime())
+                .toJobParameters());
+        if (execution.getStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException("User import did not complete: " + execution.getStatus());
+        }
+        return execution.getStatus();
+    }
+}
@@ -2,8 +2,10 @@ package sg.gov.tech.gds_swe_challenge;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class GdsSweChallengeApplication {
 
     static void main(String[] args) {
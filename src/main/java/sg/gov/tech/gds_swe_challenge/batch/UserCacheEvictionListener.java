@@ -0,0 +1,21 @@
+package sg.gov.tech.gds_swe_challenge.batch;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.listener.JobExecutionListener;
+import sg.gov.tech.gds_swe_challenge.service.UserService;
+
+/**
+ * Invalidates cached users once an import job has written to {@code app_user}
+ */
+public class UserCacheEvictionListener implements JobExecutionListener {
+    private final UserService userService;
+
+    public UserCacheEvictionListener(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        userService.evictAllUsers();
+    }
+}
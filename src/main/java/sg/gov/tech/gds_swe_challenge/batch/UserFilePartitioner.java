@@ -0,0 +1,52 @@
+package sg.gov.tech.gds_swe_challenge.batch;
+
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Splits a CSV file with one header line into contiguous item ranges, one per partition.
+ * Each partition reads the same file and only maps the items in its own range.
+ */
+public class UserFilePartitioner implements Partitioner {
+    public static final String START_ITEM = "startItem";
+    public static final String END_ITEM = "endItem";
+
+    private final Resource file;
+
+    public UserFilePartitioner(Resource file) {
+        this.file = file;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        long itemCount = countItems();
+        long rangeSize = Math.max(1, Math.ceilDiv(itemCount, Math.max(1, gridSize)));
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (long start = 0, partition = 0; start < itemCount; start += rangeSize, partition++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(START_ITEM, start);
+            context.putLong(END_ITEM, Math.min(start + rangeSize, itemCount));
+            partitions.put("partition" + partition, context);
+        }
+        return partitions;
+    }
+
+    private long countItems() {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            return Math.max(0, reader.lines().filter(line -> !line.isBlank()).count() - 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read user import file: " + file, e);
+        }
+    }
+}
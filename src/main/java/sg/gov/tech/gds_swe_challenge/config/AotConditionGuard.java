@@ -0,0 +1,66 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fails startup of an AOT-processed build when a property that switches beans on or off is set differently at
+ * runtime. Spring AOT evaluates {@code @ConditionalOnProperty} while the build runs, so such a property would
+ * otherwise be ignored without notice. Does nothing when the application runs without the generated artifacts.
+ */
+@Component
+public class AotConditionGuard implements SmartInitializingSingleton {
+    static final List<Switch> SWITCHES = List.of(
+            new Switch("app.datasource.replica.enabled", false, ReplicaDataSourceConfig.class),
+            new Switch("app.rate-limit.enabled", true, RateLimitConfig.class),
+            new Switch("spring.threads.virtual.enabled", false, VirtualThreadPinningMonitor.class));
+
+    private final ListableBeanFactory beanFactory;
+    private final Environment environment;
+
+    public AotConditionGuard(ListableBeanFactory beanFactory, Environment environment) {
+        this.beanFactory = beanFactory;
+        this.environment = environment;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (AotDetector.useGeneratedArtifacts()) {
+            verifyFrozenConditions();
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if a property no longer matches the beans decided at build time
+     */
+    void verifyFrozenConditions() {
+        List<String> mismatches = SWITCHES.stream()
+                .filter(condition -> condition.enabled(environment) != condition.active(beanFactory))
+                .map(condition -> condition.property() + "=" + condition.enabled(environment))
+                .toList();
+        if (!mismatches.isEmpty()) {
+            throw new IllegalStateException("Properties " + mismatches + " differ from the values this AOT-processed "
+                    + "build was made with, and the beans they switch were fixed at build time. Rebuild with "
+                    + "-Dspring-boot.aot.jvmArguments=\"-D<property>=<value>\" or start without "
+                    + "-Dspring.aot.enabled=true");
+        }
+    }
+
+    /**
+     * A property evaluated by {@code @ConditionalOnProperty} and the bean it switches on
+     */
+    record Switch(String property, boolean enabledIfMissing, Class<?> bean) {
+        boolean enabled(Environment environment) {
+            return environment.getProperty(property, Boolean.class, enabledIfMissing);
+        }
+
+        boolean active(ListableBeanFactory beanFactory) {
+            return beanFactory.getBeanNamesForType(bean, true, false).length > 0;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import java.util.Optional;
+
+/**
+ * Carries the auditor of the current unit of work. {@link AuditorContextFilter} binds the {@code X-Username}
+ * of a request once for the whole request, and persistence work that runs on behalf of other users, e.g.
+ * restaurant submissions written by the batching flusher, binds each submitter in turn.
+ * <p>
+ * Scoped values are not inherited by executor threads, so tasks handed to an executor must be
+ * {@link #wrap wrapped} to keep the auditor of the code that submitted them.
+ * </p>
+ */
+public final class AuditorContext {
+    private static final ScopedValue<String> AUDITOR = ScopedValue.newInstance();
+
+    private AuditorContext() {
+    }
+
+    /**
+     * Auditor bound to the current scope, if any
+     */
+    public static Optional<String> current() {
+        return AUDITOR.isBound() ? Optional.of(AUDITOR.get()) : Optional.empty();
+    }
+
+    /**
+     * Runs the action with the given auditor bound for every audited write it performs
+     */
+    public static void runAs(String auditor, Runnable action) {
+        ScopedValue.where(AUDITOR, auditor).run(action);
+    }
+
+    /**
+     * Calls the operation with the given auditor bound for every audited write it performs
+     */
+    public static <R, X extends Throwable> R callAs(String auditor, ScopedValue.CallableOp<? extends R, X> op) throws X {
+        return ScopedValue.where(AUDITOR, auditor).call(op);
+    }
+
+    /**
+     * Returns a task that runs with the auditor bound at the time of wrapping, or the task itself if none is bound
+     */
+    public static Runnable wrap(Runnable task) {
+        if (!AUDITOR.isBound()) {
+            return task;
+        }
+        String auditor = AUDITOR.get();
+        return () -> runAs(auditor, task);
+    }
+}
@@ -0,0 +1,44 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+
+import java.io.IOException;
+
+/**
+ * Resolves the auditor from the {@code X-Username} header once per request and binds it in
+ * {@link AuditorContext} while the request is handled, so audited writes no longer read the header each time.
+ * Requests without the header leave the auditor unbound, and their writes are audited as {@code SYSTEM}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@NullMarked
+public class AuditorContextFilter extends OncePerRequestFilter {
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String username = request.getHeader(AppConstants.HEADER_X_USERNAME);
+        if (username == null || username.isBlank()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try {
+            AuditorContext.callAs(username.trim(), () -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (ServletException | IOException | RuntimeException | Error e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Caffeine-backed caches declared under {@code spring.cache}
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+}
@@ -1,40 +1,60 @@
 package sg.gov.tech.gds_swe_challenge.config;
 
-import jakarta.servlet.http.HttpServletRequest;
 import org.jspecify.annotations.NullMarked;
+import org.slf4j.MDC;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
 
+import java.util.Map;
 import java.util.Optional;
 
 @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
 @Configuration
 public class DatabaseConfig {
+    private static final Optional<String> SYSTEM_AUDITOR = Optional.of(AppConstants.SYSTEM);
+
     @Bean
     public AuditorAware<String> auditorProvider() {
         return new AuditorAwareImpl();
     }
 
+    /**
+     * Carries the auditor and the logging MDC of the submitting thread into tasks run on the application task
+     * executor, e.g. asynchronous MVC handlers, so their writes and log lines keep the request's user.
+     */
+    @Bean
+    public TaskDecorator requestContextTaskDecorator() {
+        return task -> {
+            Runnable audited = AuditorContext.wrap(task);
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            if (mdc == null) {
+                return audited;
+            }
+            return () -> {
+                MDC.setContextMap(mdc);
+                try {
+                    audited.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        };
+    }
+
+    /**
+     * Reads the auditor bound by {@link AuditorContextFilter} or {@link AuditorContext#runAs}. Called for every
+     * audited write, so it only reads a scoped value and does not touch the request.
+     */
     static class AuditorAwareImpl implements AuditorAware<String> {
         @Override
         @NullMarked
         public Optional<String> getCurrentAuditor() {
-            ServletRequestAttributes attributes = (ServletRequestAttributes)
-                    RequestContextHolder.getRequestAttributes();
-
-            if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                String username = request.getHeader(AppConstants.HEADER_X_USERNAME);
-                if (username != null && !username.trim().isEmpty()) {
-                    return Optional.of(username.trim());
-                }
-            }
-            return Optional.of(AppConstants.SYSTEM);
+            Optional<String> boundAuditor = AuditorContext.current();
+            return boundAuditor.isPresent() ? boundAuditor : SYSTEM_AUDITOR;
         }
     }
 }
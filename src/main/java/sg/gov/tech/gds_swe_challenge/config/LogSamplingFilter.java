@@ -0,0 +1,39 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logback turbo filter that keeps a random fraction of the INFO and lower events of the loggers under
+ * {@code loggerName}. WARN and ERROR events are never sampled. Turbo filters run before the event is built,
+ * so a dropped line costs neither formatting nor a queue slot. Configured in {@code logback-spring.xml}.
+ */
+public class LogSamplingFilter extends TurboFilter {
+    private String loggerName = "";
+    private double rate = 1.0;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks, which should not be answered at random
+        if (format == null
+                || level.levelInt > Level.INFO_INT
+                || level.levelInt < logger.getEffectiveLevel().levelInt
+                || !logger.getName().startsWith(loggerName)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setLoggerName(String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+}
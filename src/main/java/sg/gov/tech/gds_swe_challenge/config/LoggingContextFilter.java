@@ -0,0 +1,58 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Puts the request id and the {@code X-Username} of the request into the logging MDC, so every log line of
+ * the request carries them as structured fields. Controllers add the session id once they know it.
+ * The request id is taken from {@code X-Request-Id} when the caller sends a well-formed one, generated
+ * otherwise, and echoed in the response.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@NullMarked
+public class LoggingContextFilter extends OncePerRequestFilter {
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final int MAX_USERNAME_LENGTH = 64;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(AppConstants.HEADER_X_REQUEST_ID);
+        if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+            requestId = HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextLong());
+        }
+        response.setHeader(AppConstants.HEADER_X_REQUEST_ID, requestId);
+        MDC.put(AppConstants.MDC_REQUEST_ID, requestId);
+
+        String username = request.getHeader(AppConstants.HEADER_X_USERNAME);
+        if (username != null && !username.isBlank()) {
+            String trimmed = username.trim();
+            MDC.put(AppConstants.MDC_USERNAME,
+                    trimmed.length() > MAX_USERNAME_LENGTH ? trimmed.substring(0, MAX_USERNAME_LENGTH) : trimmed);
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(AppConstants.MDC_REQUEST_ID);
+            MDC.remove(AppConstants.MDC_USERNAME);
+            MDC.remove(AppConstants.MDC_SESSION_ID);
+        }
+    }
+}
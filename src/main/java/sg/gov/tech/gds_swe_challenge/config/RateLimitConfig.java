@@ -0,0 +1,38 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import sg.gov.tech.gds_swe_challenge.controller.RateLimitInterceptor;
+import sg.gov.tech.gds_swe_challenge.service.RateLimiter;
+
+/**
+ * Applies the per-user rate limits of {@code app.rate-limit} to the restaurant and session APIs.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitConfig(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public RateLimiter rateLimiter() {
+        return new RateLimiter(properties, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter()))
+                .addPathPatterns("/restaurant/**", "/session/**");
+    }
+}
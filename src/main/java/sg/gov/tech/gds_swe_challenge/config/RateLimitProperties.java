@@ -0,0 +1,42 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Per-user request rate limits, applied separately to every endpoint. Limits are validated at startup, since a
+ * zero refill rate or an empty bucket would reject every request.
+ *
+ * @param enabled       reject requests beyond the limits with {@code 429 Too Many Requests}
+ * @param defaultLimit  limit of endpoints without their own entry
+ * @param endpoints     limits by endpoint, keyed by HTTP method and path pattern, e.g. {@code POST /restaurant/submit}
+ * @param sweepInterval how often buckets that have refilled completely are dropped
+ * @param maxClients    buckets kept per endpoint; further clients share one overflow bucket until a sweep frees room
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Validated
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue @Valid Limit defaultLimit,
+        @DefaultValue Map<String, @Valid Limit> endpoints,
+        @DefaultValue("1m") Duration sweepInterval,
+        @DefaultValue("100000") @Min(1) int maxClients
+) {
+    /**
+     * A token bucket.
+     *
+     * @param refillPerSecond tokens added per second, i.e. the sustained request rate
+     * @param capacity        tokens the bucket holds, i.e. the largest burst allowed after a quiet period
+     */
+    public record Limit(
+            @DefaultValue("20") @Positive double refillPerSecond,
+            @DefaultValue("40") @Min(1) int capacity
+    ) {}
+}
@@ -0,0 +1,28 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Read replica used for read-only transactions.
+ *
+ * @param enabled          route read-only transactions to the replica, otherwise everything uses {@code spring.datasource}
+ * @param url              JDBC URL of the replica
+ * @param username         replica user
+ * @param password         replica password
+ * @param maximumPoolSize  size of the replica connection pool, independent of the primary pool
+ * @param maxLag           replication lag beyond which reads fall back to the primary
+ * @param lagCheckInterval how often the replication lag is measured
+ */
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record ReplicaDataSourceProperties(
+        @DefaultValue("false") boolean enabled,
+        String url,
+        @DefaultValue("sa") String username,
+        @DefaultValue("") String password,
+        @DefaultValue("20") int maximumPoolSize,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("1s") Duration lagCheckInterval
+) {}
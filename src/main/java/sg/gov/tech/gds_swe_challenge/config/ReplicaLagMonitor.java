@@ -0,0 +1,86 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures replication lag with a heartbeat row: every check stamps {@code replica_heartbeat} on the primary
+ * and reads it back from the replica. The replica is usable while the stamp it returns is no older than
+ * {@code app.datasource.replica.max-lag}. It starts out unusable, and a failed check also marks it unusable,
+ * so reads stay on the primary until the replica has proven to be caught up. Checks start once the application is
+ * ready, after Liquibase has created the heartbeat table.
+ */
+public class ReplicaLagMonitor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final String STAMP_HEARTBEAT = "UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1";
+    private static final String READ_HEARTBEAT = "SELECT beat_at FROM replica_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final ReplicaDataSourceProperties properties;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, ReplicaDataSourceProperties properties) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-monitor").daemon().factory());
+        long interval = properties.lagCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkLag, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    void checkLag() {
+        try {
+            Instant now = Instant.now();
+            primary.update(STAMP_HEARTBEAT, Timestamp.from(now));
+            Timestamp replicaBeat = replica.queryForObject(READ_HEARTBEAT, Timestamp.class);
+            Duration lag = Duration.between(Objects.requireNonNull(replicaBeat).toInstant(), now);
+            if (lag.compareTo(properties.maxLag()) > 0) {
+                markUnusable("lag " + lag.toMillis() + " ms");
+            } else if (!replicaUsable) {
+                replicaUsable = true;
+                LOGGER.info("Routing read-only transactions to the replica [lag: {} ms]", lag.toMillis());
+            }
+        } catch (DataAccessException e) {
+            markUnusable(e.getMessage());
+        }
+    }
+
+    private void markUnusable(String reason) {
+        if (replicaUsable) {
+            replicaUsable = false;
+            LOGGER.warn("Routing read-only transactions to the primary [reason: {}]", reason);
+        }
+    }
+}
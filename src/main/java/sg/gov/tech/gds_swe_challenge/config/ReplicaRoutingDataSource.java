@@ -0,0 +1,51 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Sends read-only transactions to the replica while it is usable, and everything else to the primary.
+ * <p>
+ * The read-only flag is only known once the transaction has started, so this must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers fetching the
+ * physical connection until the first statement.
+ * </p>
+ * <p>
+ * Reads whose result is tagged with an ETag read on the primary must not be answered by a lagging
+ * replica, so they are run {@link #readFromPrimary on the primary}.
+ * </p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    enum Target { PRIMARY, REPLICA }
+
+    private static final ScopedValue<Boolean> PRIMARY_REQUIRED = ScopedValue.newInstance();
+
+    private final BooleanSupplier replicaUsable;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier replicaUsable) {
+        this.replicaUsable = replicaUsable;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Calls the operation with every connection it fetches taken from the primary, read-only or not
+     */
+    public static <R, X extends Throwable> R readFromPrimary(ScopedValue.CallableOp<? extends R, X> op) throws X {
+        return ScopedValue.where(PRIMARY_REQUIRED, Boolean.TRUE).call(op);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !PRIMARY_REQUIRED.isBound()
+                && replicaUsable.getAsBoolean()
+                ? Target.REPLICA
+                : Target.PRIMARY;
+    }
+}
@@ -0,0 +1,23 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the restaurant submission pipeline.
+ *
+ * @param batchingEnabled queue validated submissions and write them in grouped JDBC batches
+ * @param batchSize       maximum number of submissions written in one transaction
+ * @param queueCapacity   pending submissions held before callers fall back to a direct write
+ * @param ackTimeout      how long a caller waits for its queued submission to be written; a submission already
+ *                        being written is always waited for
+ */
+@ConfigurationProperties(prefix = "app.restaurant.submission")
+public record RestaurantSubmissionProperties(
+        @DefaultValue("false") boolean batchingEnabled,
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("5s") Duration ackTimeout
+) {}
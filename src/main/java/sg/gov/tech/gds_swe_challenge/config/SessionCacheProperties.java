@@ -0,0 +1,17 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * HTTP caching of session reads.
+ *
+ * @param closedMaxAge how long clients may reuse a closed session's summary without revalidating;
+ *                     a reset reopens the session, so this bounds how long a client can miss that
+ */
+@ConfigurationProperties(prefix = "app.session-cache")
+public record SessionCacheProperties(
+        @DefaultValue("60s") Duration closedMaxAge
+) {}
@@ -0,0 +1,20 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the live session event streams.
+ *
+ * @param bufferSize        events buffered per subscriber before a slow subscriber is disconnected
+ * @param heartbeatInterval how often idle streams get a comment line, which also detects dead connections
+ * @param timeout           how long a stream stays open before the client has to reconnect
+ */
+@ConfigurationProperties(prefix = "app.session-events")
+public record SessionEventProperties(
+        @DefaultValue("64") int bufferSize,
+        @DefaultValue("15s") Duration heartbeatInterval,
+        @DefaultValue("30m") Duration timeout
+) {}
@@ -14,13 +14,16 @@ import org.springframework.batch.infrastructure.item.database.builder.JdbcBatchI
 import org.springframework.batch.infrastructure.item.file.FlatFileItemReader;
 import org.springframework.batch.infrastructure.item.file.builder.FlatFileItemReaderBuilder;
 import org.springframework.batch.infrastructure.item.file.mapping.RecordFieldSetMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import sg.gov.tech.gds_swe_challenge.batch.UserCacheEvictionListener;
+import sg.gov.tech.gds_swe_challenge.batch.UserFilePartitioner;
 import sg.gov.tech.gds_swe_challenge.batch.UserItemProcessor;
 import sg.gov.tech.gds_swe_challenge.dto.UserInput;
 import sg.gov.tech.gds_swe_challenge.entity.User;
-import sg.gov.tech.gds_swe_challenge.repository.UserRepository;
+import sg.gov.tech.gds_swe_challenge.service.UserService;
 
 import javax.sql.DataSource;
 
@@ -28,52 +31,109 @@ import javax.sql.DataSource;
 @EnableBatchProcessing
 public class UserBatchConfig {
 
+    /**
+     * Inserts new users and updates existing ones only when their privilege changed, so re-importing an unchanged
+     * file leaves every row and its audit columns untouched. The creation timestamp comes from the column default.
+     */
+    static final String UPSERT_USER_SQL = """
+            MERGE INTO app_user t
+            USING (SELECT CAST(:username AS VARCHAR(50)) AS username,
+                          CAST(:canInitiateSession AS BOOLEAN) AS can_initiate_session) s
+            ON t.username = s.username
+            WHEN MATCHED AND t.can_initiate_session IS DISTINCT FROM s.can_initiate_session THEN UPDATE SET
+                can_initiate_session = s.can_initiate_session,
+                updated_at = CURRENT_TIMESTAMP,
+                updated_by = :updatedBy
+            WHEN NOT MATCHED THEN INSERT (username, can_initiate_session, created_by, updated_by)
+                VALUES (s.username, s.can_initiate_session, :createdBy, :updatedBy)
+            """;
+
+    private final UserImportProperties properties;
+    private final boolean virtualThreads;
+
+    public UserBatchConfig(UserImportProperties properties,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.properties = properties;
+        this.virtualThreads = virtualThreads;
+    }
+
     /**
      * Startup job: Load default users
      */
     @Bean
-    public Job loadDefaultUsersJob(JobRepository jobRepository) {
+    public Job loadDefaultUsersJob(JobRepository jobRepository, UserService userService) {
         return new JobBuilder("loadDefaultUsersJob", jobRepository)
                 .start(loadDefaultUsersStep(jobRepository))
+                .listener(new UserCacheEvictionListener(userService))
                 .build();
     }
 
+    /**
+     * Splits the import file into line ranges and imports them in parallel, one worker step per range
+     */
     @Bean
     public Step loadDefaultUsersStep(JobRepository jobRepository) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("user-import-");
+        taskExecutor.setVirtualThreads(virtualThreads);
+        taskExecutor.setConcurrencyLimit(properties.gridSize());
+
         return new StepBuilder("loadDefaultUsersStep", jobRepository)
-                .<UserInput, User>chunk(10)
-                .reader(defaultUsersReader())
-                .processor(userItemProcessor(null))
+                .partitioner("loadDefaultUsersWorkerStep", new UserFilePartitioner(properties.file()))
+                .step(loadDefaultUsersWorkerStep(jobRepository))
+                .gridSize(properties.gridSize())
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step loadDefaultUsersWorkerStep(JobRepository jobRepository) {
+        return new StepBuilder("loadDefaultUsersWorkerStep", jobRepository)
+                .<UserInput, User>chunk(properties.chunkSize())
+                .reader(defaultUsersReader(null, null))
+                .processor(userItemProcessor())
                 .writer(userItemWriter(null))
                 .build();
     }
 
+    /**
+     * Reader for one partition. Step scoped, so every worker gets its own reader instance
+     * positioned at the start of its range.
+     */
     @Bean
     @StepScope
-    public FlatFileItemReader<UserInput> defaultUsersReader() {
+    public FlatFileItemReader<UserInput> defaultUsersReader(
+            @Value("#{stepExecutionContext['" + UserFilePartitioner.START_ITEM + "']}") Long startItem,
+            @Value("#{stepExecutionContext['" + UserFilePartitioner.END_ITEM + "']}") Long endItem) {
         return new FlatFileItemReaderBuilder<UserInput>()
                 .name("defaultUsersReader")
-                .resource(new ClassPathResource("data/default-users.csv"))
+                .resource(properties.file())
                 .delimited()
                 .names("username", "canInitiateSession")
                 .linesToSkip(1)
+                .currentItemCount(Math.toIntExact(startItem))
+                .maxItemCount(Math.toIntExact(endItem))
                 .fieldSetMapper(new RecordFieldSetMapper<>(UserInput.class))
                 .build();
     }
 
     @Bean
     @StepScope
-    public ItemProcessor<UserInput, User> userItemProcessor(UserRepository userRepository) {
-        return new UserItemProcessor(userRepository);
+    public ItemProcessor<UserInput, User> userItemProcessor() {
+        return new UserItemProcessor();
     }
 
+    /**
+     * Upserts each chunk in a single JDBC batch: new users are inserted, existing users get
+     * their session privilege updated. Safe to run concurrently with other imports.
+     */
     @Bean
     public ItemWriter<User> userItemWriter(DataSource dataSource) {
         return new JdbcBatchItemWriterBuilder<User>()
                 .itemSqlParameterSourceProvider(new BeanPropertyItemSqlParameterSourceProvider<>())
-                .sql("INSERT INTO app_user (username, can_initiate_session, created_by, updated_by) " +
-                        "VALUES (:username, :canInitiateSession, :createdBy, :updatedBy)")
+                .sql(UPSERT_USER_SQL)
                 .dataSource(dataSource)
+                // unchanged users match without an update, so a row count of 0 is expected
+                .assertUpdates(false)
                 .build();
     }
 }
@@ -0,0 +1,19 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.io.Resource;
+
+/**
+ * Tuning for the user import job.
+ *
+ * @param file      CSV file to import, with a {@code username,canInitiateSession} header line
+ * @param chunkSize number of users written per transaction
+ * @param gridSize  number of line-range partitions imported in parallel
+ */
+@ConfigurationProperties(prefix = "app.user-import")
+public record UserImportProperties(
+        @DefaultValue("classpath:data/default-users.csv") Resource file,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("4") int gridSize
+) {}
@@ -0,0 +1,73 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+/**
+ * Logs virtual threads that stay pinned to their carrier thread, which caps request concurrency at the
+ * carrier pool size. Listens to the JFR {@code jdk.VirtualThreadPinned} event in-process, so no recording
+ * file is written. Active only when virtual threads are enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_FRAMES = 8;
+
+    private final VirtualThreadProperties properties;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(properties.pinnedThreshold())
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::logPinnedEvent);
+        recordingStream.startAsync();
+        LOGGER.info("Monitoring virtual thread pinning [threshold: {}]", properties.pinnedThreshold());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void logPinnedEvent(RecordedEvent event) {
+        LOGGER.warn("Virtual thread pinned for {} ms [thread: {}]{}",
+                event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                formatStackTrace(event.getStackTrace()));
+    }
+
+    private String formatStackTrace(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(MAX_LOGGED_FRAMES)
+                .map(frame -> "%s.%s:%d".formatted(
+                        frame.getMethod().getType().getName(),
+                        frame.getMethod().getName(),
+                        frame.getLineNumber()))
+                .collect(Collectors.joining(System.lineSeparator() + "\tat ", System.lineSeparator() + "\tat ", ""));
+    }
+}
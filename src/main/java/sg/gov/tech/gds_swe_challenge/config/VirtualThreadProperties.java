@@ -0,0 +1,16 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Diagnostics for the virtual-thread execution mode ({@code spring.threads.virtual.enabled}).
+ *
+ * @param pinnedThreshold minimum time a virtual thread must stay pinned to its carrier before it is reported
+ */
+@ConfigurationProperties(prefix = "app.virtual-threads")
+public record VirtualThreadProperties(
+        @DefaultValue("20ms") Duration pinnedThreshold
+) {}
@@ -8,5 +8,10 @@ public interface AppConstants {
     String GLOBAL_SESSION_ID_STR = "0";
     String GLOBAL_SESSION_NAME = "GLOBAL";
     String HEADER_X_USERNAME = "X-Username";
+    String HEADER_X_REQUEST_ID = "X-Request-Id";
+    String MDC_REQUEST_ID = "requestId";
+    String MDC_USERNAME = "username";
+    String MDC_SESSION_ID = "sessionId";
     String SYSTEM = "SYSTEM";
+    String USER_CACHE = "users";
 }
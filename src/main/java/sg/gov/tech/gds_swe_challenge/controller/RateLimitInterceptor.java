@@ -0,0 +1,59 @@
+package sg.gov.tech.gds_swe_challenge.controller;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+import sg.gov.tech.gds_swe_challenge.exception.RateLimitExceededException;
+import sg.gov.tech.gds_swe_challenge.service.RateLimiter;
+
+import java.time.Duration;
+
+/**
+ * Admits a request only if its client has budget left for the matched endpoint. Clients are identified by the
+ * {@code X-Username} header, or by their address when it is missing.
+ */
+@NullMarked
+public class RateLimitInterceptor implements HandlerInterceptor {
+    /**
+     * Endpoint of requests that matched no handler. They share one key, so arbitrary request paths cannot create
+     * buckets and decision meters without bound.
+     */
+    static final String UNMATCHED_ENDPOINT = "unmatched";
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // an async re-dispatch, e.g. when an event stream completes, belongs to a request that was already admitted
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        String endpoint = endpoint(request);
+        long wait = rateLimiter.tryAcquire(endpoint, client(request));
+        if (wait > 0) {
+            throw new RateLimitExceededException(endpoint, Duration.ofNanos(wait));
+        }
+        return true;
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? request.getMethod() + " " + pattern : UNMATCHED_ENDPOINT;
+    }
+
+    private static String client(HttpServletRequest request) {
+        String username = request.getHeader(AppConstants.HEADER_X_USERNAME);
+        if (username != null && !username.isBlank()) {
+            return username.trim();
+        }
+        return request.getRemoteAddr();
+    }
+}
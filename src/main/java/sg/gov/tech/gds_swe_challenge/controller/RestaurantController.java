@@ -9,6 +9,7 @@ import jakarta.validation.Valid;
 import org.jspecify.annotations.NullMarked;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+import sg.gov.tech.gds_swe_challenge.dto.RestaurantResponse;
 import sg.gov.tech.gds_swe_challenge.dto.SubmitRestaurantRequest;
 import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
 import sg.gov.tech.gds_swe_challenge.service.RestaurantService;
@@ -48,7 +50,7 @@ public class RestaurantController {
      *
      * @param request  validated restaurant submission data
      * @param username submitter username from X-Username header
-     * @return {@link ResponseEntity} with 201 Created + {@link Restaurant} or error response
+     * @return {@link ResponseEntity} with 201 Created + {@link RestaurantResponse} or error response
      */
     @Operation(
             summary = "Submit restaurant to session",
@@ -59,14 +61,15 @@ public class RestaurantController {
             @ApiResponse(responseCode = "400", description = "Validation failed/Session closed")
     })
     @PostMapping("/submit")
-    public ResponseEntity<Restaurant> submitRestaurant(
+    public ResponseEntity<RestaurantResponse> submitRestaurant(
             @Valid @RequestBody SubmitRestaurantRequest request,
             @RequestHeader(AppConstants.HEADER_X_USERNAME) String username) {
-        LOGGER.info("submitRestaurant [request: {}, username: {}]", request, username);
+        MDC.put(AppConstants.MDC_SESSION_ID, Long.toString(request.sessionId()));
+        LOGGER.info("submitRestaurant [name: {}]", request.name());
         Restaurant restaurant = service.addRestaurant(request, username);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(restaurant);
+                .body(RestaurantResponse.from(restaurant));
     }
 
     /**
@@ -78,14 +81,15 @@ public class RestaurantController {
      */
     @Operation(summary = "Get random restaurant")
     @GetMapping("/random")
-    public ResponseEntity<Restaurant> getRandomRestaurant(
+    public ResponseEntity<RestaurantResponse> getRandomRestaurant(
             @Parameter(description = "Session ID (default: GLOBAL=0)")
             @RequestParam(value = "sessionId", defaultValue = AppConstants.GLOBAL_SESSION_ID_STR) String sessionId,
             @RequestHeader(AppConstants.HEADER_X_USERNAME) String username) {
-        LOGGER.info("getRandomRestaurant [sessionId: {}, username: {}]", sessionId, username);
+        MDC.put(AppConstants.MDC_SESSION_ID, sessionId);
+        LOGGER.info("getRandomRestaurant");
         Restaurant restaurant = service.getRandomRestaurant(Long.parseLong(sessionId), username);
         return restaurant != null
-                ? ResponseEntity.ok(restaurant)
+                ? ResponseEntity.ok(RestaurantResponse.from(restaurant))
                 : ResponseEntity.notFound().build();
     }
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package sg.gov.tech.gds_swe_challenge.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,8 +9,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -20,12 +23,25 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import sg.gov.tech.gds_swe_challenge.config.SessionCacheProperties;
+import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
 import sg.gov.tech.gds_swe_challenge.dto.InviteUserRequest;
+import sg.gov.tech.gds_swe_challenge.dto.SessionEvent;
+import sg.gov.tech.gds_swe_challenge.dto.SessionPage;
+import sg.gov.tech.gds_swe_challenge.dto.SessionSummary;
 import sg.gov.tech.gds_swe_challenge.entity.Session;
+import sg.gov.tech.gds_swe_challenge.service.SessionChangeTracker;
 import sg.gov.tech.gds_swe_challenge.service.SessionService;
+import tools.jackson.databind.json.JsonMapper;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
 
 /**
  * REST controller for session operations.
@@ -38,26 +54,128 @@ import java.util.List;
 public class SessionController {
         private static final Logger LOGGER = LoggerFactory.getLogger(SessionController.class);
         private final SessionService service;
+        private final JsonMapper jsonMapper;
+        private final SessionEventBroadcaster eventBroadcaster;
+        private final SessionChangeTracker changeTracker;
+        private final CacheControl closedSessionCacheControl;
 
-        public SessionController(SessionService service) {
+        public SessionController(SessionService service, JsonMapper jsonMapper, SessionEventBroadcaster eventBroadcaster,
+                        SessionChangeTracker changeTracker, SessionCacheProperties cacheProperties) {
                 this.service = service;
+                this.jsonMapper = jsonMapper;
+                this.eventBroadcaster = eventBroadcaster;
+                this.changeTracker = changeTracker;
+                this.closedSessionCacheControl = CacheControl.maxAge(cacheProperties.closedMaxAge());
         }
 
         /**
-         * Retrieves all sessions regardless of state.
+         * Retrieves a page of session summaries regardless of state, ordered by id.
+         * Answers 304 after reading only the versions of the page's sessions when the client's ETag is still current.
          *
-         * @return {@link ResponseEntity}
+         * @return {@link ResponseEntity}, or null when the client's copy is still current
          */
-        @Operation(summary = "Get all sessions", description = "Returns complete list of sessions including GLOBAL and custom sessions")
+        @Operation(summary = "Get sessions", description = "Returns a page of session summaries including GLOBAL and custom sessions. Pass nextCursor as cursor to get the next page. Send the ETag back in If-None-Match to get 304 while no session on the page changed")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Sessions retrieved successfully", content = @Content(array = @ArraySchema(schema = @Schema(implementation = Session.class)))),
+                        @ApiResponse(responseCode = "200", description = "Sessions retrieved successfully", content = @Content(schema = @Schema(implementation = SessionPage.class))),
+                        @ApiResponse(responseCode = "304", description = "No session on the page changed since the ETag was issued"),
                         @ApiResponse(responseCode = "500", description = "Internal server error")
         })
         @GetMapping()
-        public ResponseEntity<List<Session>> getSessions() {
-                LOGGER.info("getSessions");
-                List<Session> sessions = service.getSessions();
-                return ResponseEntity.ok(sessions);
+        public @Nullable ResponseEntity<SessionPage> getSessions(
+                        WebRequest webRequest,
+                        @Parameter(description = "Return sessions with id greater than this cursor") @RequestParam(value = "cursor", required = false) @Nullable Long cursor,
+                        @Parameter(description = "Filter by closed state") @RequestParam(value = "closed", required = false) @Nullable Boolean closed,
+                        @Parameter(description = "Filter by creator username") @RequestParam(value = "createdBy", required = false) @Nullable String createdBy,
+                        @Parameter(description = "Page size, at most 500") @RequestParam(value = "limit", defaultValue = "50") int limit) {
+                LOGGER.info("getSessions [cursor: {}, closed: {}, createdBy: {}, limit: {}]", cursor, closed, createdBy, limit);
+                String eTag = changeTracker.sessionsETag(cursor, closed, createdBy, limit);
+                if (webRequest.checkNotModified(eTag)) {
+                        return null;
+                }
+                SessionPage sessions = service.getSessions(cursor, closed, createdBy, limit);
+                return ResponseEntity.ok()
+                                .eTag(eTag)
+                                .cacheControl(CacheControl.noCache())
+                                .body(sessions);
+        }
+
+        /**
+         * Streams all matching session summaries as newline-delimited JSON.
+         *
+         * @return {@link ResponseEntity}
+         */
+        @Operation(summary = "Stream sessions", description = "Streams all matching session summaries as NDJSON, one session per line")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Sessions streamed successfully", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = SessionSummary.class))),
+                        @ApiResponse(responseCode = "500", description = "Internal server error")
+        })
+        @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public ResponseEntity<StreamingResponseBody> streamSessions(
+                        @Parameter(description = "Filter by closed state") @RequestParam(value = "closed", required = false) @Nullable Boolean closed,
+                        @Parameter(description = "Filter by creator username") @RequestParam(value = "createdBy", required = false) @Nullable String createdBy) {
+                LOGGER.info("streamSessions [closed: {}, createdBy: {}]", closed, createdBy);
+                StreamingResponseBody body = outputStream -> service.streamSessions(closed, createdBy, summary -> {
+                        try {
+                                outputStream.write(jsonMapper.writeValueAsBytes(summary));
+                                outputStream.write('\n');
+                        } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                        }
+                });
+                return ResponseEntity.ok()
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .body(body);
+        }
+
+        /**
+         * Retrieves the summary of one session, including its restaurant, submitter and invitee counts.
+         * Answers 304 after reading only the session's version when the client's ETag is still current.
+         * Closed sessions may be reused for a while without revalidating, as only a reset changes them.
+         *
+         * @return {@link ResponseEntity}, or null when the client's copy is still current
+         */
+        @Operation(summary = "Get session summary", description = "Returns one session with its maintained restaurant, submitter and invitee counts, without loading restaurants or invitees. Send the ETag back in If-None-Match to get 304 while the session is unchanged")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Session summary retrieved successfully", content = @Content(schema = @Schema(implementation = SessionSummary.class))),
+                        @ApiResponse(responseCode = "304", description = "Session unchanged since the ETag was issued"),
+                        @ApiResponse(responseCode = "400", description = "Session not found"),
+                        @ApiResponse(responseCode = "500", description = "Internal server error")
+        })
+        @GetMapping("/{sessionId}/summary")
+        public @Nullable ResponseEntity<SessionSummary> getSessionSummary(
+                        WebRequest webRequest,
+                        @Parameter(description = "Session ID") @PathVariable(value = "sessionId") Long sessionId) {
+                MDC.put(AppConstants.MDC_SESSION_ID, sessionId.toString());
+                LOGGER.info("getSessionSummary");
+                Optional<String> eTag = changeTracker.sessionETag(sessionId);
+                if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+                        return null;
+                }
+                SessionSummary summary = service.getSessionSummary(sessionId);
+                return ResponseEntity.ok()
+                                .eTag(eTag.orElse(null))
+                                .cacheControl(summary.closed() ? closedSessionCacheControl : CacheControl.noCache())
+                                .body(summary);
+        }
+
+        /**
+         * Subscribes to the live activity of a session as server-sent events.
+         *
+         * @return {@link SseEmitter} kept open until the client disconnects or the stream times out
+         */
+        @Operation(summary = "Watch session activity", description = "Server-sent events for restaurant submissions, invitations, session close and reset. Idle streams receive heartbeat comments")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Event stream opened", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = SessionEvent.class))),
+                        @ApiResponse(responseCode = "400", description = "Session not found"),
+                        @ApiResponse(responseCode = "500", description = "Internal server error")
+        })
+        @GetMapping(value = "/{sessionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        public SseEmitter sessionEvents(
+                        @Parameter(description = "Session ID to watch") @PathVariable(value = "sessionId") Long sessionId) {
+                MDC.put(AppConstants.MDC_SESSION_ID, sessionId.toString());
+                LOGGER.info("Subscribing to session events");
+                service.getSession(sessionId);
+                return eventBroadcaster.subscribe(sessionId);
         }
 
         @Operation(summary = "Reset session to OPEN state", description = "Reopens closed session for new restaurant submissions")
@@ -68,11 +186,12 @@ public class SessionController {
                         @ApiResponse(responseCode = "500", description = "Internal server error")
         })
         @PatchMapping("/{sessionId}/reset")
-        public ResponseEntity<Session> resetSession(
+        public ResponseEntity<SessionSummary> resetSession(
                         @Parameter(description = "Session ID to reset") @PathVariable(value = "sessionId") Long sessionId) {
-                LOGGER.info("Resetting session [id: {}]", sessionId);
+                MDC.put(AppConstants.MDC_SESSION_ID, sessionId.toString());
+                LOGGER.info("Resetting session");
                 Session resetSession = service.resetSession(sessionId);
-                return ResponseEntity.ok(resetSession);
+                return ResponseEntity.ok(SessionSummary.from(resetSession));
         }
 
         /**
@@ -86,10 +205,11 @@ public class SessionController {
                         @ApiResponse(responseCode = "403", description = "Not session creator"),
                         @ApiResponse(responseCode = "404", description = "Session/User not found")
         })
-        public ResponseEntity<Session> inviteUser(
+        public ResponseEntity<SessionSummary> inviteUser(
                         @RequestHeader("X-Username") String inviterUsername,
                         @Valid @RequestBody InviteUserRequest request) {
+                MDC.put(AppConstants.MDC_SESSION_ID, Long.toString(request.sessionId()));
                 var session = service.inviteUser(request.sessionId(), inviterUsername, request.usernames());
-                return ResponseEntity.ok(session);
+                return ResponseEntity.ok(SessionSummary.from(session));
         }
 }
\ No newline at end of file
@@ -0,0 +1,176 @@
+package sg.gov.tech.gds_swe_challenge.controller;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sg.gov.tech.gds_swe_challenge.config.SessionEventProperties;
+import sg.gov.tech.gds_swe_challenge.dto.SessionEvent;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed session events out to server-sent event subscribers.
+ * <p>
+ * Every subscriber has a bounded buffer drained by its own short-lived virtual thread, so publishing never
+ * waits on a client. A subscriber whose buffer overflows is disconnected and is expected to reconnect.
+ * Streams that had nothing sent for a heartbeat interval get a heartbeat comment, which keeps proxies from closing
+ * them and detects dead connections. Busy streams are not sent heartbeats.
+ * </p>
+ */
+@Component
+public class SessionEventBroadcaster {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionEventBroadcaster.class);
+
+    private final SessionEventProperties properties;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat;
+
+    public SessionEventBroadcaster(SessionEventProperties properties) {
+        this.properties = properties;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("session-event-heartbeat").daemon().factory());
+        long interval = properties.heartbeatInterval().toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a live event stream for the session.
+     */
+    public SseEmitter subscribe(long sessionId) {
+        return subscribe(sessionId, new SseEmitter(properties.timeout().toMillis()));
+    }
+
+    SseEmitter subscribe(long sessionId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(sessionId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(subscriber));
+        // Added inside compute, so a concurrent remove of the session's last subscriber cannot drop the new one
+        subscribers.compute(sessionId, (id, watchers) -> {
+            Set<Subscriber> sessionWatchers = watchers != null ? watchers : ConcurrentHashMap.newKeySet();
+            sessionWatchers.add(subscriber);
+            return sessionWatchers;
+        });
+        return emitter;
+    }
+
+    /**
+     * Publishes the event to the session's subscribers once the transaction that raised it has committed,
+     * so rolled back changes are never announced.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(SessionEvent event) {
+        Set<Subscriber> watchers = subscribers.get(event.sessionId());
+        if (watchers == null) {
+            return;
+        }
+        Set<DataWithMediaType> message = SseEmitter.event()
+                .id(Long.toString(eventIds.incrementAndGet()))
+                .name(event.type().eventName())
+                .data(event, MediaType.APPLICATION_JSON)
+                .build();
+        watchers.forEach(watcher -> watcher.enqueue(message));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(watchers -> watchers.forEach(watcher -> watcher.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private void sendHeartbeats() {
+        Set<DataWithMediaType> message = SseEmitter.event().comment("heartbeat").build();
+        long idleSince = System.nanoTime() - properties.heartbeatInterval().toNanos();
+        subscribers.values().forEach(watchers -> watchers.stream()
+                .filter(watcher -> watcher.isIdleSince(idleSince))
+                .forEach(watcher -> watcher.enqueue(message)));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.sessionId, (sessionId, watchers) -> {
+            watchers.remove(subscriber);
+            return watchers.isEmpty() ? null : watchers;
+        });
+    }
+
+    private final class Subscriber {
+        private final long sessionId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long lastSentNanos = System.nanoTime();
+
+        private Subscriber(long sessionId, SseEmitter emitter) {
+            this.sessionId = sessionId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(properties.bufferSize());
+        }
+
+        /**
+         * @return true if nothing is waiting to be sent and nothing was sent after the given {@link System#nanoTime()}
+         */
+        private boolean isIdleSince(long nanoTime) {
+            return buffer.isEmpty() && lastSentNanos - nanoTime <= 0;
+        }
+
+        private void enqueue(Set<DataWithMediaType> message) {
+            if (!buffer.offer(message)) {
+                LOGGER.warn("Disconnecting slow event subscriber of session {}", sessionId);
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> message;
+                while ((message = buffer.poll()) != null) {
+                    emitter.send(message);
+                    lastSentNanos = System.nanoTime();
+                }
+            } catch (IOException | IllegalStateException e) {
+                LOGGER.debug("Event subscriber of session {} went away: {}", sessionId, e.getMessage());
+                remove(this);
+                buffer.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package sg.gov.tech.gds_swe_challenge.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Restaurant response")
+public record RestaurantResponse(
+        @Schema(description = "Restaurant unique identifier", example = "1")
+        Long id,
+        @Schema(description = "Restaurant name", example = "Kopitiam")
+        String name,
+        @Schema(description = "Session the restaurant was submitted to", example = "0")
+        Long sessionId,
+        @Schema(description = "Number of times the restaurant was submitted to the session", example = "3")
+        long submissionCount,
+        @Schema(description = "Username of the submitter", example = "alice")
+        String createdBy,
+        LocalDateTime createdAt
+) {
+    /**
+     * Maps a restaurant without initialising its session, only the session id is read.
+     */
+    public static RestaurantResponse from(Restaurant restaurant) {
+        var session = restaurant.getSession();
+        return new RestaurantResponse(
+                restaurant.getId(),
+                restaurant.getName(),
+                session != null ? session.getId() : null,
+                restaurant.getSubmissionCount(),
+                restaurant.getCreatedBy(),
+                restaurant.getCreatedAt());
+    }
+}
@@ -0,0 +1,59 @@
+package sg.gov.tech.gds_swe_challenge.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Activity in a session, pushed to the session's live event stream once the change is committed.
+ */
+@Schema(description = "Session activity event")
+public record SessionEvent(
+        @Schema(description = "Kind of activity", example = "RESTAURANT_SUBMITTED")
+        Type type,
+        @Schema(description = "Session the activity happened in", example = "1")
+        long sessionId,
+        @Schema(description = "Session name, submitted restaurant, invited usernames or selected restaurant name, depending on the type")
+        Object data
+) {
+    public enum Type {
+        SESSION_CREATED("session-created"),
+        RESTAURANT_SUBMITTED("restaurant-submitted"),
+        USER_INVITED("user-invited"),
+        SESSION_CLOSED("session-closed"),
+        SESSION_RESET("session-reset");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        /**
+         * Name of the server-sent event, so clients can listen per type
+         */
+        public String eventName() {
+            return eventName;
+        }
+    }
+
+    public static SessionEvent sessionCreated(long sessionId, String name) {
+        return new SessionEvent(Type.SESSION_CREATED, sessionId, name);
+    }
+
+    public static SessionEvent restaurantSubmitted(RestaurantResponse restaurant) {
+        return new SessionEvent(Type.RESTAURANT_SUBMITTED, restaurant.sessionId(), restaurant);
+    }
+
+    public static SessionEvent usersInvited(long sessionId, List<String> usernames) {
+        return new SessionEvent(Type.USER_INVITED, sessionId, List.copyOf(usernames));
+    }
+
+    public static SessionEvent sessionClosed(long sessionId, String selectedRestaurant) {
+        return new SessionEvent(Type.SESSION_CLOSED, sessionId, selectedRestaurant);
+    }
+
+    public static SessionEvent sessionReset(long sessionId) {
+        return new SessionEvent(Type.SESSION_RESET, sessionId, null);
+    }
+}
@@ -0,0 +1,12 @@
+package sg.gov.tech.gds_swe_challenge.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Page of sessions ordered by id")
+public record SessionPage(
+        List<SessionSummary> items,
+        @Schema(description = "Cursor for the next page, null on the last page", example = "50")
+        Long nextCursor
+) {}
@@ -0,0 +1,48 @@
+package sg.gov.tech.gds_swe_challenge.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import sg.gov.tech.gds_swe_challenge.entity.Session;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read projection of a session, built from the session row only (no restaurants or invited users).
+ */
+@Schema(description = "Session summary")
+public record SessionSummary(
+        @Schema(description = "Session unique identifier", example = "1")
+        Long id,
+        @Schema(description = "Session name", example = "team-alpha")
+        String name,
+        @Schema(description = "Whether the session is closed for submissions", example = "false")
+        boolean closed,
+        @Schema(description = "Restaurant selected when the session was closed", example = "Kopitiam")
+        String selectedRestaurant,
+        @Schema(description = "Number of restaurants submitted to the session", example = "3")
+        long restaurantCount,
+        @Schema(description = "Number of distinct users who submitted a restaurant", example = "2")
+        long submitterCount,
+        @Schema(description = "Number of users invited to the session", example = "4")
+        long inviteeCount,
+        @Schema(description = "Username of the session creator", example = "alice")
+        String createdBy,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    /**
+     * Maps a loaded session without touching its restaurants or invited users.
+     */
+    public static SessionSummary from(Session session) {
+        return new SessionSummary(
+                session.getId(),
+                session.getName(),
+                session.isClosed(),
+                session.getSelectedRestaurant(),
+                session.getRestaurantCount(),
+                session.getSubmitterCount(),
+                session.getInviteeCount(),
+                session.getCreatedBy(),
+                session.getCreatedAt(),
+                session.getUpdatedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package sg.gov.tech.gds_swe_challenge.dto;
+
+import sg.gov.tech.gds_swe_challenge.entity.User;
+
+/**
+ * Immutable read projection of a user, safe to share through the user cache across threads and transactions.
+ *
+ * @param username           unique username
+ * @param canInitiateSession whether the user may start new sessions
+ */
+public record UserSummary(
+        String username,
+        boolean canInitiateSession
+) {
+    public static UserSummary from(User user) {
+        return new UserSummary(user.getUsername(), user.isCanInitiateSession());
+    }
+}
@@ -9,23 +9,53 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
+import java.util.Locale;
+import java.util.regex.Pattern;
+
 @Entity
 @Table
 public class Restaurant extends Auditable {
+    private static final Pattern OUTER_WHITESPACE = Pattern.compile("^\\s+|\\s+$");
+    private static final Pattern INNER_WHITESPACE = Pattern.compile("\\s+");
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "restaurant_seq")
+    @SequenceGenerator(name = "restaurant_seq", sequenceName = "restaurant_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     private String name;
 
-    @ManyToOne(fetch = FetchType.EAGER, optional = false)
+    /**
+     * Case and whitespace insensitive form of the name, unique within a session.
+     */
+    @Column(nullable = false)
+    private String normalizedName;
+
+    /**
+     * Number of times the restaurant was submitted to its session, which is its weight in the draw.
+     */
+    @Column(nullable = false)
+    private long submissionCount = 1;
+
+    /**
+     * Lazy, callers that need more than the session id must fetch it explicitly.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "session_id", nullable = false)
     @JsonBackReference
     private Session session;
 
+    /**
+     * Draw ticket of the first submission of this restaurant. Tickets are dense and zero-based within a session,
+     * later submissions of the same restaurant get their tickets in the restaurant_ticket table.
+     */
+    @Column(nullable = false)
+    private long sessionOrdinal;
+
     public Long getId() {
         return id;
     }
@@ -40,6 +70,23 @@ public class Restaurant extends Auditable {
 
     public void setName(String name) {
         this.name = name;
+        this.normalizedName = normalize(name);
+    }
+
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    public long getSubmissionCount() {
+        return submissionCount;
+    }
+
+    public void setSubmissionCount(long submissionCount) {
+        this.submissionCount = submissionCount;
+    }
+
+    public void incrementSubmissionCount() {
+        submissionCount++;
     }
 
     public Session getSession() {
@@ -49,4 +96,25 @@ public class Restaurant extends Auditable {
     public void setSession(Session session) {
         this.session = session;
     }
+
+    public long getSessionOrdinal() {
+        return sessionOrdinal;
+    }
+
+    public void setSessionOrdinal(long sessionOrdinal) {
+        this.sessionOrdinal = sessionOrdinal;
+    }
+
+    /**
+     * Trims, collapses inner whitespace and lower-cases the name, so "Kopitiam" and " kopitiam " are one restaurant.
+     * Uses the same regular expressions as the normalized_name backfill in changelog 008, which H2 also evaluates
+     * with java.util.regex, so migrated and newly submitted names normalize identically.
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        String trimmed = OUTER_WHITESPACE.matcher(name).replaceAll("");
+        return INNER_WHITESPACE.matcher(trimmed).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -32,6 +33,32 @@ public class Session extends Auditable {
 
     private String selectedRestaurant;
 
+    /**
+     * Optimistic lock for state transitions (reset, invitations). Conditional bulk updates such as closing
+     * the session bump it explicitly.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * Number of restaurant submissions to this session, repeats included, which is also the number of draw tickets.
+     * Maintained by atomic counter updates only, so it is never written back from a (possibly stale) entity instance.
+     */
+    @Column(insertable = false, updatable = false)
+    private long restaurantCount;
+
+    /**
+     * Number of distinct users who submitted a restaurant. Maintained by atomic counter updates only,
+     * alongside the session_submitter table.
+     */
+    @Column(insertable = false, updatable = false)
+    private long submitterCount;
+
+    /**
+     * Number of invited users, kept in step with {@link #invitedUsers} under the optimistic lock.
+     */
+    private long inviteeCount;
+
     @OneToMany(mappedBy = "session", cascade = CascadeType.ALL)
     @JsonManagedReference
     private List<Restaurant> restaurants = new ArrayList<>();
@@ -76,6 +103,38 @@ public class Session extends Auditable {
         this.selectedRestaurant = selectedRestaurant;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public long getRestaurantCount() {
+        return restaurantCount;
+    }
+
+    public void setRestaurantCount(long restaurantCount) {
+        this.restaurantCount = restaurantCount;
+    }
+
+    public long getSubmitterCount() {
+        return submitterCount;
+    }
+
+    public void setSubmitterCount(long submitterCount) {
+        this.submitterCount = submitterCount;
+    }
+
+    public long getInviteeCount() {
+        return inviteeCount;
+    }
+
+    public void setInviteeCount(long inviteeCount) {
+        this.inviteeCount = inviteeCount;
+    }
+
     public List<Restaurant> getRestaurants() {
         return restaurants;
     }
@@ -98,22 +157,16 @@ public class Session extends Auditable {
     }
 
     public boolean isCreator(User user) {
-        return getCreatedBy() != null && getCreatedBy().equals(user.getUsername());
-    }
-
-    public boolean isUserInvited(User user) {
-        return invitedUsers.stream()
-                .anyMatch(u -> u.getUsername().equals(user.getUsername())) ||
-                this.getCreatedBy().equals(user.getUsername());
+        return isCreator(user.getUsername());
     }
 
-    public boolean isUserInvited(String username) {
-        return invitedUsers.stream()
-                .anyMatch(u -> u.getUsername().equals(username)) ||
-                this.getCreatedBy().equals(username);
+    public boolean isCreator(String username) {
+        return getCreatedBy() != null && getCreatedBy().equals(username);
     }
 
     public void addInvitedUser(User user) {
-        invitedUsers.add(user);
+        if (invitedUsers.add(user)) {
+            inviteeCount++;
+        }
     }
 }
\ No newline at end of file
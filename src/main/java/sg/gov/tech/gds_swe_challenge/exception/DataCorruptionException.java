@@ -0,0 +1,11 @@
+package sg.gov.tech.gds_swe_challenge.exception;
+
+/**
+ * Thrown when persisted data breaks an invariant the application relies on. This is a server fault that needs
+ * repairing, never a mistake of the client, so it is answered with 500 and logged as an error.
+ */
+public class DataCorruptionException extends RuntimeException {
+    public DataCorruptionException(String message) {
+        super(message);
+    }
+}
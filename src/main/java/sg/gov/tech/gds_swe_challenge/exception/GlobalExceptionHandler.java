@@ -1,8 +1,10 @@
 package sg.gov.tech.gds_swe_challenge.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.jspecify.annotations.NullMarked;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -14,12 +16,21 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @ControllerAdvice
 @NullMarked
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    static final String REJECTION_METRIC = "app.requests.rejected";
+
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
 
     /**
      * Handles method argument validation failures from @Valid annotations and Bean Validation.
@@ -41,6 +52,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
             HttpStatusCode status,
             WebRequest request) {
         LOGGER.warn("Validation failed: {}", ex.getMessage());
+        countRejection("validation", ex);
 
         var errors = ex.getBindingResult()
                 .getFieldErrors()
@@ -78,6 +90,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
             RuntimeException ex,
             WebRequest request) {
         LOGGER.warn("Business logic error: {}", ex.getMessage());
+        countRejection("business_rule", ex);
 
         ApiError apiError = new ApiError(
                 HttpStatus.BAD_REQUEST,
@@ -90,11 +103,95 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.badRequest().body(apiError);
     }
 
+    /**
+     * Handles session updates that still conflicted with concurrent updates after the service retries.
+     * Returns HTTP 409 Conflict so the client can reload the session and try again.
+     *
+     * @param ex      the {@link OptimisticLockingFailureException} from the last attempt
+     * @param request the current {@link WebRequest} for path extraction
+     * @return {@link ResponseEntity} with HTTP 409 Conflict status and {@link ApiError} body
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex,
+            WebRequest request) {
+        LOGGER.warn("Concurrent update conflict: {}", ex.getMessage());
+        countRejection("conflict", ex);
+
+        ApiError apiError = new ApiError(
+                HttpStatus.CONFLICT,
+                "Concurrent Update",
+                "The resource was modified by another request",
+                request.getDescription(false).replace("uri=", ""),
+                List.of("Please retry the request")
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(apiError);
+    }
+
+    /**
+     * Handles requests rejected by the per-user rate limiter.
+     * Returns HTTP 429 Too Many Requests with a {@code Retry-After} header in whole seconds.
+     * Logged at debug level, since a flooding client would otherwise flood the log as well.
+     *
+     * @param ex      the {@link RateLimitExceededException} carrying the time until the next allowed request
+     * @param request the current {@link WebRequest} for path extraction
+     * @return {@link ResponseEntity} with HTTP 429 Too Many Requests status and {@link ApiError} body
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiError> handleRateLimitExceeded(
+            RateLimitExceededException ex,
+            WebRequest request) {
+        LOGGER.debug("{}", ex.getMessage());
+        countRejection("rate_limited", ex);
+
+        long retryAfterSeconds = retryAfterSeconds(ex.getRetryAfter());
+        ApiError apiError = new ApiError(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "Too Many Requests",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", ""),
+                List.of("Please retry after " + retryAfterSeconds + " seconds")
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(apiError);
+    }
+
+    /**
+     * Handles submissions abandoned in the write-behind queue because they were not written in time.
+     * Returns HTTP 503 Service Unavailable with a {@code Retry-After} header in whole seconds; the submission
+     * was never written, so retrying cannot duplicate it.
+     *
+     * @param ex      the {@link SubmissionTimeoutException} carrying the suggested retry delay
+     * @param request the current {@link WebRequest} for path extraction
+     * @return {@link ResponseEntity} with HTTP 503 Service Unavailable status and {@link ApiError} body
+     */
+    @ExceptionHandler(SubmissionTimeoutException.class)
+    public ResponseEntity<ApiError> handleSubmissionTimeout(
+            SubmissionTimeoutException ex,
+            WebRequest request) {
+        LOGGER.warn("{}", ex.getMessage());
+        countRejection("submission_timeout", ex);
+
+        long retryAfterSeconds = retryAfterSeconds(ex.getRetryAfter());
+        ApiError apiError = new ApiError(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", ""),
+                List.of("The submission was not saved, please retry after " + retryAfterSeconds + " seconds")
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(apiError);
+    }
+
     @ExceptionHandler(MissingRequestHeaderException.class)
     public ResponseEntity<ApiError> handleMissingRequestHeader(
             MissingRequestHeaderException ex,
             WebRequest request) {
         LOGGER.warn("Missing required header '{}': {}", ex.getHeaderName(), ex.getMessage());
+        countRejection("missing_header", ex);
 
         ApiError apiError = new ApiError(
                 HttpStatus.BAD_REQUEST,
@@ -106,6 +203,31 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.badRequest().body(apiError);
     }
 
+    /**
+     * Handles persisted data that breaks an invariant, e.g. draw tickets that are no longer dense.
+     * Returns HTTP 500 like any other server fault, without counting it as a rejected request, and logs it
+     * as an error with the stack trace so the corruption gets noticed and repaired.
+     *
+     * @param ex      the {@link DataCorruptionException} describing the broken invariant
+     * @param request the current {@link WebRequest} for path extraction
+     * @return {@link ResponseEntity} with HTTP 500 Internal Server Error status and {@link ApiError} body
+     */
+    @ExceptionHandler(DataCorruptionException.class)
+    public ResponseEntity<ApiError> handleDataCorruption(
+            DataCorruptionException ex,
+            WebRequest request) {
+        LOGGER.error("Data corruption detected: {}", ex.getMessage(), ex);
+
+        ApiError apiError = new ApiError(
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                "Internal Server Error",
+                "An unexpected error occurred",
+                request.getDescription(false).replace("uri=", ""),
+                List.of("Please contact support")
+        );
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(apiError);
+    }
+
     /**
      * Handle generic internal server exceptions that are unexpected
      *
@@ -129,4 +251,15 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(apiError);
     }
+
+    private static long retryAfterSeconds(Duration retryAfter) {
+        return Math.max(1, Math.ceilDiv(retryAfter.toNanos(), TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private void countRejection(String reason, Exception ex) {
+        meterRegistry.counter(REJECTION_METRIC,
+                        "reason", reason,
+                        "exception", ex.getClass().getSimpleName())
+                .increment();
+    }
 }
@@ -0,0 +1,19 @@
+package sg.gov.tech.gds_swe_challenge.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a client has used up its request budget for an endpoint.
+ */
+public class RateLimitExceededException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String endpoint, Duration retryAfter) {
+        super("Rate limit exceeded for " + endpoint);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,20 @@
+package sg.gov.tech.gds_swe_challenge.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a queued submission was not taken for writing within the acknowledgement timeout. The submission
+ * has been abandoned and will never be written, so the client can safely retry it.
+ */
+public class SubmissionTimeoutException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public SubmissionTimeoutException(Duration retryAfter, Throwable cause) {
+        super("Timed out waiting for restaurant submission to be persisted", cause);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,24 +1,44 @@
 package sg.gov.tech.gds_swe_challenge.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     /**
-     * Efficient random selection for specific session using JOIN.
+     * Constant-time lookup of the restaurant holding the given draw ticket: either the ticket of its first submission,
+     * or a ticket of a repeated submission. Both branches are primary or unique key lookups.
      */
     @Query(value = """
             SELECT r.* FROM restaurant r
-            INNER JOIN session s ON r.session_id = s.id
-            WHERE s.id = :sessionId
-            ORDER BY RANDOM()
-            LIMIT 1
+            WHERE r.session_id = :sessionId AND r.session_ordinal = :ticket
+            UNION ALL
+            SELECT r.* FROM restaurant_ticket t JOIN restaurant r ON r.id = t.restaurant_id
+            WHERE t.session_id = :sessionId AND t.ticket = :ticket
             """, nativeQuery = true)
-    Optional<Restaurant> findRandomRestaurantBySession(@Param("sessionId") long sessionId);
-}
\ No newline at end of file
+    Optional<Restaurant> findByTicket(@Param("sessionId") long sessionId, @Param("ticket") long ticket);
+
+    /**
+     * Restaurants already submitted to the session under any of the normalized names, backed by the unique
+     * (session_id, normalized_name) index.
+     */
+    List<Restaurant> findBySessionIdAndNormalizedNameIn(long sessionId, Collection<String> normalizedNames);
+
+    /**
+     * Assigns a draw ticket to a repeated submission of an existing restaurant.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO restaurant_ticket (session_id, ticket, restaurant_id) VALUES (:sessionId, :ticket, :restaurantId)",
+            nativeQuery = true)
+    int insertTicket(@Param("sessionId") long sessionId,
+                     @Param("ticket") long ticket,
+                     @Param("restaurantId") long restaurantId);
+}
@@ -1,12 +1,84 @@
 package sg.gov.tech.gds_swe_challenge.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import sg.gov.tech.gds_swe_challenge.dto.SessionSummary;
 import sg.gov.tech.gds_swe_challenge.entity.Session;
 
 import java.util.Optional;
 
 @Repository
-public interface SessionRepository extends JpaRepository<Session, Long> {
+public interface SessionRepository extends JpaRepository<Session, Long>, SessionSummaryQueries {
     Optional<Session> findByIdAndIsClosedFalse(long sessionId);
+
+    /**
+     * Summary of one session, read from the session row and its maintained counters only.
+     */
+    @Query("""
+            SELECT new sg.gov.tech.gds_swe_challenge.dto.SessionSummary(
+                s.id, s.name, s.isClosed, s.selectedRestaurant, s.restaurantCount,
+                s.submitterCount, s.inviteeCount, s.createdBy, s.createdAt, s.updatedAt)
+            FROM Session s
+            WHERE s.id = :sessionId
+            """)
+    Optional<SessionSummary> findSummaryById(@Param("sessionId") long sessionId);
+
+    /**
+     * Atomically bumps the restaurant counter of an open session. The row lock taken here is held until commit,
+     * which serialises concurrent submissions to the same session and with the conditional close.
+     *
+     * @return 1 if the counter was bumped, 0 if the session is missing or closed
+     */
+    @Modifying
+    @Query(value = "UPDATE session SET restaurant_count = restaurant_count + :count WHERE id = :sessionId AND is_closed = FALSE",
+            nativeQuery = true)
+    int incrementRestaurantCount(@Param("sessionId") long sessionId, @Param("count") long count);
+
+    @Query(value = "SELECT restaurant_count FROM session WHERE id = :sessionId", nativeQuery = true)
+    long findRestaurantCountById(@Param("sessionId") long sessionId);
+
+    /**
+     * Records the user as a submitter of the session unless already recorded.
+     *
+     * @return 1 if this is the user's first submission to the session, otherwise 0
+     */
+    @Modifying
+    @Query(value = """
+            MERGE INTO session_submitter t
+            USING (SELECT CAST(:sessionId AS BIGINT) AS session_id, CAST(:username AS VARCHAR(50)) AS username) s
+            ON t.session_id = s.session_id AND t.username = s.username
+            WHEN NOT MATCHED THEN INSERT (session_id, username) VALUES (s.session_id, s.username)
+            """, nativeQuery = true)
+    int insertSubmitterIfAbsent(@Param("sessionId") long sessionId, @Param("username") String username);
+
+    @Modifying
+    @Query(value = "UPDATE session SET submitter_count = submitter_count + :count WHERE id = :sessionId",
+            nativeQuery = true)
+    int incrementSubmitterCount(@Param("sessionId") long sessionId, @Param("count") long count);
+
+    /**
+     * Checks invitation with a primary key lookup on the join table, without loading the invited users.
+     */
+    @Query(value = """
+            SELECT EXISTS (SELECT 1 FROM session_invited_users
+                           WHERE session_id = :sessionId AND user_username = :username)
+            """, nativeQuery = true)
+    boolean existsInvitedUser(@Param("sessionId") long sessionId, @Param("username") String username);
+
+    /**
+     * Closes the session only if it is still open, so concurrent draws cannot both close it.
+     * Bumps the version, so a concurrent invite that read the open session fails its optimistic check.
+     *
+     * @return number of sessions closed, 0 if the session is missing or already closed
+     */
+    @Modifying
+    @Query("""
+            UPDATE Session s SET s.isClosed = true, s.selectedRestaurant = :selectedRestaurant,
+                s.version = s.version + 1
+            WHERE s.id = :sessionId AND s.isClosed = false
+            """)
+    int closeIfOpen(@Param("sessionId") long sessionId, @Param("selectedRestaurant") String selectedRestaurant);
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package sg.gov.tech.gds_swe_challenge.repository;
+
+import org.springframework.data.domain.Pageable;
+import sg.gov.tech.gds_swe_challenge.dto.SessionSummary;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Filtered session summary listings. Only the filters that are set become predicates, so every filter
+ * combination gets its own query shape and an index-friendly plan, rather than one catch-all query.
+ */
+public interface SessionSummaryQueries {
+    /**
+     * Keyset page of session summaries with id greater than {@code afterId}, ordered by id.
+     * Null filters are ignored.
+     */
+    List<SessionSummary> findSummaries(Long afterId, Boolean closed, String createdBy, Pageable pageable);
+
+    /**
+     * Streams all matching session summaries ordered by id. Null filters are ignored.
+     * Must be consumed inside a transaction.
+     */
+    Stream<SessionSummary> streamSummaries(Boolean closed, String createdBy);
+}
@@ -0,0 +1,68 @@
+package sg.gov.tech.gds_swe_challenge.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import sg.gov.tech.gds_swe_challenge.dto.SessionSummary;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+class SessionSummaryQueriesImpl implements SessionSummaryQueries {
+    static final String SELECT_SUMMARIES = """
+            SELECT new sg.gov.tech.gds_swe_challenge.dto.SessionSummary(
+                s.id, s.name, s.isClosed, s.selectedRestaurant, s.restaurantCount,
+                s.submitterCount, s.inviteeCount, s.createdBy, s.createdAt, s.updatedAt)
+            FROM Session s""";
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    SessionSummaryQueriesImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<SessionSummary> findSummaries(Long afterId, Boolean closed, String createdBy, Pageable pageable) {
+        return summaryQuery(afterId, closed, createdBy)
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public Stream<SessionSummary> streamSummaries(Boolean closed, String createdBy) {
+        return summaryQuery(null, closed, createdBy)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    private TypedQuery<SessionSummary> summaryQuery(Long afterId, Boolean closed, String createdBy) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        List<String> predicates = new ArrayList<>(3);
+        if (afterId != null) {
+            predicates.add("s.id > :afterId");
+            parameters.put("afterId", afterId);
+        }
+        if (closed != null) {
+            predicates.add("s.isClosed = :closed");
+            parameters.put("closed", closed);
+        }
+        if (createdBy != null) {
+            predicates.add("s.createdBy = :createdBy");
+            parameters.put("createdBy", createdBy);
+        }
+
+        TypedQuery<SessionSummary> query = entityManager.createQuery(jpql(predicates), SessionSummary.class);
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    static String jpql(List<String> predicates) {
+        String where = predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+        return SELECT_SUMMARIES + where + " ORDER BY s.id";
+    }
+}
@@ -0,0 +1,132 @@
+package sg.gov.tech.gds_swe_challenge.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import sg.gov.tech.gds_swe_challenge.config.RateLimitProperties;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process token buckets per endpoint and client.
+ * <p>
+ * Buckets use the generic cell rate algorithm: instead of a token count and a refill timestamp, a bucket is a
+ * single theoretical arrival time, advanced with a compare-and-set. The allowed path therefore takes no lock
+ * and, once the client's bucket exists, allocates nothing. Buckets that have refilled completely carry no
+ * state worth keeping and are dropped periodically. The client half of the key comes from a request header, so the
+ * buckets per endpoint are capped: once full, new clients share one overflow bucket until a sweep frees room.
+ * </p>
+ */
+public class RateLimiter {
+    static final String DECISION_METRIC = "app.rate-limit.decisions";
+    static final String BUCKET_METRIC = "app.rate-limit.buckets";
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final Map<String, EndpointBuckets> endpoints = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("rate-limit-sweeper").daemon().factory());
+        long interval = properties.sweepInterval().toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.MILLISECONDS);
+        meterRegistry.gauge(BUCKET_METRIC, this, RateLimiter::getBucketCount);
+    }
+
+    /**
+     * Takes a token from the client's bucket for the endpoint.
+     *
+     * @return 0 if the request is allowed, otherwise the nanoseconds until the client's next request would be
+     */
+    public long tryAcquire(String endpoint, String client) {
+        EndpointBuckets buckets = endpoints.get(endpoint);
+        if (buckets == null) {
+            buckets = endpoints.computeIfAbsent(endpoint, this::createBuckets);
+        }
+        return buckets.tryAcquire(client, nanoClock.getAsLong());
+    }
+
+    public int getBucketCount() {
+        return endpoints.values().stream().mapToInt(buckets -> buckets.arrivals.size()).sum();
+    }
+
+    /**
+     * Drops buckets that have refilled completely, which a new bucket would start out as anyway.
+     */
+    void sweep() {
+        long now = nanoClock.getAsLong();
+        endpoints.values().forEach(buckets -> buckets.sweep(now));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    private EndpointBuckets createBuckets(String endpoint) {
+        RateLimitProperties.Limit limit = properties.endpoints().getOrDefault(endpoint, properties.defaultLimit());
+        return new EndpointBuckets(limit, properties.maxClients(),
+                meterRegistry.counter(DECISION_METRIC, "endpoint", endpoint, "outcome", "allowed"),
+                meterRegistry.counter(DECISION_METRIC, "endpoint", endpoint, "outcome", "rejected"));
+    }
+
+    private static final class EndpointBuckets {
+        private final Map<String, AtomicLong> arrivals = new ConcurrentHashMap<>();
+        private final AtomicLong overflow = new AtomicLong(Long.MIN_VALUE);
+        private final int maxClients;
+        private final long emissionInterval;
+        private final long burstTolerance;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        private EndpointBuckets(RateLimitProperties.Limit limit, int maxClients, Counter allowed, Counter rejected) {
+            this.maxClients = maxClients;
+            this.emissionInterval = (long) (TimeUnit.SECONDS.toNanos(1) / limit.refillPerSecond());
+            this.burstTolerance = emissionInterval * (limit.capacity() - 1);
+            this.allowed = allowed;
+            this.rejected = rejected;
+        }
+
+        private long tryAcquire(String client, long now) {
+            AtomicLong arrival = arrivals.get(client);
+            if (arrival == null) {
+                // Concurrent new clients may overshoot the cap by at most one bucket each
+                arrival = arrivals.size() < maxClients
+                        ? arrivals.computeIfAbsent(client, key -> new AtomicLong(now))
+                        : overflow;
+            }
+            while (true) {
+                long theoreticalArrival = arrival.get();
+                long start = Math.max(theoreticalArrival, now);
+                long wait = start - burstTolerance - now;
+                if (wait > 0) {
+                    rejected.increment();
+                    return wait;
+                }
+                if (arrival.compareAndSet(theoreticalArrival, start + emissionInterval)) {
+                    allowed.increment();
+                    return 0;
+                }
+            }
+        }
+
+        private void sweep(long now) {
+            arrivals.values().removeIf(arrival -> arrival.get() <= now);
+        }
+    }
+}
@@ -1,52 +1,84 @@
 package sg.gov.tech.gds_swe_challenge.service;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
 import sg.gov.tech.gds_swe_challenge.dto.SubmitRestaurantRequest;
 import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
+import sg.gov.tech.gds_swe_challenge.entity.Session;
+import sg.gov.tech.gds_swe_challenge.exception.DataCorruptionException;
 import sg.gov.tech.gds_swe_challenge.repository.RestaurantRepository;
 
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
 @Service
 public class RestaurantService {
     private final RestaurantRepository restaurantRepository;
     private final SessionService sessionService;
+    private final RestaurantSubmissionBatcher submissionBatcher;
 
     public RestaurantService(RestaurantRepository repository,
-            SessionService sessionService) {
+            SessionService sessionService,
+            RestaurantSubmissionBatcher submissionBatcher) {
         this.restaurantRepository = repository;
         this.sessionService = sessionService;
+        this.submissionBatcher = submissionBatcher;
     }
 
+    @Timed(value = "app.restaurant.submit", description = "Restaurant submissions", histogram = true, percentiles = {0.5, 0.95, 0.99})
     public Restaurant addRestaurant(SubmitRestaurantRequest request, String username) {
         var session = sessionService.getOrCreateSession(request.sessionId(), request.sessionName(), username);
 
         sessionService.validateUserCanSubmit(session, username);
 
-        Restaurant restaurant = new Restaurant();
-        restaurant.setName(request.name());
-        restaurant.setSession(session);
-
-        return restaurantRepository.saveAndFlush(restaurant);
+        return submissionBatcher.submit(new RestaurantSubmission(session, request.name(), username));
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Draws a random restaurant and closes the session in one transaction: one session read, one indexed draw
+     * and one conditional close. A concurrent caller that loses the race to close the session fails and its
+     * draw is rolled back.
+     */
+    @Timed(value = "app.restaurant.draw", description = "Random restaurant draws", histogram = true, percentiles = {0.5, 0.95, 0.99})
+    @Transactional
     public Restaurant getRandomRestaurant(long sessionId, String username) {
-        if (sessionService.isSessionClosed(sessionId)) {
+        var session = sessionService.getSession(sessionId);
+        if (session.isClosed()) {
             throw new IllegalStateException("Session is already closed, a random restaurant has already been selected");
         }
-        var session = sessionService.getOpenSession(sessionId);
         if (!session.getId().equals(AppConstants.GLOBAL_SESSION_ID) && !session.getCreatedBy().equals(username)) {
             throw new IllegalStateException(
                     "Only the user who submitted the first restaurant may make the request: [initiator: %s]".formatted(
                             session.getCreatedBy()));
         }
-        var randomRestaurant = restaurantRepository.findRandomRestaurantBySession(sessionId)
+        var randomRestaurant = drawRestaurant(session)
                 .orElseThrow(() -> new IllegalStateException(
                         "No restaurants available in session: %s".formatted(sessionId)));
         sessionService.closeSession(sessionId, randomRestaurant.getName());
 
         return randomRestaurant;
     }
+
+    /**
+     * Picks a restaurant at random, weighted by its submission count, in constant time: every submission holds
+     * one of the session's dense draw tickets, so a single random ticket is resolved through a key lookup.
+     * <p>
+     * The tickets of a session must stay dense, i.e. exactly 0 to restaurantCount - 1. Restaurants and tickets
+     * are therefore never deleted; a ticket that does not resolve fails the draw instead of skewing it.
+     * </p>
+     */
+    Optional<Restaurant> drawRestaurant(Session session) {
+        long submissionCount = session.getRestaurantCount();
+        if (submissionCount == 0) {
+            return Optional.empty();
+        }
+        long ticket = ThreadLocalRandom.current().nextLong(submissionCount);
+        return Optional.of(restaurantRepository.findByTicket(session.getId(), ticket)
+                .orElseThrow(() -> new DataCorruptionException(
+                        "Draw ticket %d of session %d has no restaurant, tickets are no longer dense".formatted(
+                                ticket, session.getId()))));
+    }
 }
@@ -0,0 +1,16 @@
+package sg.gov.tech.gds_swe_challenge.service;
+
+import sg.gov.tech.gds_swe_challenge.entity.Session;
+
+/**
+ * A validated restaurant submission awaiting persistence.
+ *
+ * @param session  session the restaurant is submitted to
+ * @param name     restaurant name
+ * @param username submitter, recorded as the restaurant's auditor
+ */
+public record RestaurantSubmission(
+        Session session,
+        String name,
+        String username
+) {}
@@ -0,0 +1,164 @@
+package sg.gov.tech.gds_swe_challenge.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import sg.gov.tech.gds_swe_challenge.config.RestaurantSubmissionProperties;
+import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
+import sg.gov.tech.gds_swe_challenge.exception.SubmissionTimeoutException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write-behind pipeline for restaurant submissions.
+ * <p>
+ * When batching is enabled, validated submissions are queued and a single flusher thread writes whatever has
+ * accumulated in one transaction, so bursts share flushes and JDBC batches instead of paying a round trip each.
+ * Callers still block until their submission is durable, so the API keeps returning the saved restaurant.
+ * A caller that times out only gives up on a submission the flusher has not taken yet; once taken, the caller
+ * waits for the write, so a reported failure never commits and a retry cannot duplicate it.
+ * When batching is disabled, or the queue is full, submissions are written directly on the caller's thread.
+ * </p>
+ */
+@Service
+public class RestaurantSubmissionBatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RestaurantSubmissionBatcher.class);
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final RestaurantSubmissionWriter writer;
+    private final RestaurantSubmissionProperties properties;
+    private final BlockingQueue<PendingSubmission> queue;
+    private final Thread flusher;
+    private volatile boolean running;
+
+    public RestaurantSubmissionBatcher(RestaurantSubmissionWriter writer,
+                                       RestaurantSubmissionProperties properties) {
+        this.writer = writer;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.running = properties.batchingEnabled();
+        this.flusher = running
+                ? Thread.ofPlatform().name("restaurant-submission-flusher").daemon().start(this::drainQueue)
+                : null;
+    }
+
+    /**
+     * Persists the submission, grouping it with concurrent submissions when batching is enabled.
+     *
+     * @return the saved restaurant, with its durable id
+     */
+    public Restaurant submit(RestaurantSubmission submission) {
+        var pending = new PendingSubmission(submission, new AtomicBoolean(), new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            return writer.write(List.of(submission)).getFirst();
+        }
+        return await(pending);
+    }
+
+    public boolean isBatchingEnabled() {
+        return properties.batchingEnabled();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join(properties.ackTimeout().toMillis());
+        }
+    }
+
+    private Restaurant await(PendingSubmission pending) {
+        try {
+            return pending.result().get(properties.ackTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (TimeoutException e) {
+            if (pending.claimed().compareAndSet(false, true)) {
+                // The queue is backed up; by the time another timeout has passed it has likely drained
+                throw new SubmissionTimeoutException(properties.ackTimeout(), e);
+            }
+            // The flusher took the submission before the timeout and its write may still commit
+            return awaitClaimed(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private Restaurant awaitClaimed(PendingSubmission pending) {
+        try {
+            return pending.result().get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException cause ? cause : new CompletionException(e.getCause());
+    }
+
+    private void drainQueue() {
+        List<PendingSubmission> batch = new ArrayList<>(properties.batchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingSubmission first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.batchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingSubmission> batch) {
+        batch.removeIf(pending -> !pending.claimed().compareAndSet(false, true));
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<Restaurant> saved = writer.write(batch.stream().map(PendingSubmission::submission).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(saved.get(i));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Batched write of {} restaurant submissions failed, retrying individually", batch.size(), e);
+            batch.forEach(this::writeIndividually);
+        }
+    }
+
+    private void writeIndividually(PendingSubmission pending) {
+        try {
+            pending.result().complete(writer.write(List.of(pending.submission())).getFirst());
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * A queued submission. {@code claimed} is set once, either by the flusher taking it or by its caller giving up.
+     */
+    private record PendingSubmission(RestaurantSubmission submission,
+                                     AtomicBoolean claimed,
+                                     CompletableFuture<Restaurant> result) {
+    }
+}
@@ -0,0 +1,114 @@
+package sg.gov.tech.gds_swe_challenge.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sg.gov.tech.gds_swe_challenge.config.AuditorContext;
+import sg.gov.tech.gds_swe_challenge.dto.RestaurantResponse;
+import sg.gov.tech.gds_swe_challenge.dto.SessionEvent;
+import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
+import sg.gov.tech.gds_swe_challenge.repository.RestaurantRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class RestaurantSubmissionWriter {
+    private final RestaurantRepository restaurantRepository;
+    private final SessionService sessionService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RestaurantSubmissionWriter(RestaurantRepository restaurantRepository,
+                                      SessionService sessionService,
+                                      ApplicationEventPublisher eventPublisher) {
+        this.restaurantRepository = restaurantRepository;
+        this.sessionService = sessionService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Persists the submissions in a single transaction.
+     * Draw tickets are reserved with one counter update per session, first-time submitters are counted once
+     * the session row is locked, and restaurants already in the session are looked up by normalized name.
+     * A repeated restaurant gets its submission count bumped and an extra ticket instead of a new row.
+     * New rows are flushed together so Hibernate can send them as JDBC batches. Submission events are
+     * announced after commit.
+     *
+     * @return saved restaurants, in submission order
+     */
+    @Transactional
+    public List<Restaurant> write(List<RestaurantSubmission> submissions) {
+        Map<Long, List<RestaurantSubmission>> submissionsBySession = new LinkedHashMap<>();
+        for (RestaurantSubmission submission : submissions) {
+            submissionsBySession
+                    .computeIfAbsent(submission.session().getId(), sessionId -> new ArrayList<>())
+                    .add(submission);
+        }
+
+        Map<Long, SessionTickets> ticketsBySession = new HashMap<>();
+        submissionsBySession.forEach((sessionId, sessionSubmissions) -> {
+            long firstTicket = sessionService.reserveRestaurantOrdinals(sessionId, sessionSubmissions.size());
+            Set<String> submitters = new LinkedHashSet<>();
+            Set<String> normalizedNames = new LinkedHashSet<>();
+            for (RestaurantSubmission submission : sessionSubmissions) {
+                submitters.add(submission.username());
+                normalizedNames.add(Restaurant.normalize(submission.name()));
+            }
+            sessionService.recordSubmitters(sessionId, submitters);
+
+            SessionTickets tickets = new SessionTickets(firstTicket);
+            restaurantRepository.findBySessionIdAndNormalizedNameIn(sessionId, normalizedNames)
+                    .forEach(restaurant -> tickets.restaurants.put(restaurant.getNormalizedName(), restaurant));
+            ticketsBySession.put(sessionId, tickets);
+        });
+
+        List<Restaurant> restaurants = new ArrayList<>(submissions.size());
+        List<RepeatTicket> repeatTickets = new ArrayList<>();
+        for (RestaurantSubmission submission : submissions) {
+            long sessionId = submission.session().getId();
+            SessionTickets tickets = ticketsBySession.get(sessionId);
+            long ticket = tickets.next++;
+            Restaurant restaurant = tickets.restaurants.get(Restaurant.normalize(submission.name()));
+            if (restaurant == null) {
+                Restaurant newRestaurant = new Restaurant();
+                newRestaurant.setName(submission.name());
+                newRestaurant.setSession(submission.session());
+                newRestaurant.setSessionOrdinal(ticket);
+                AuditorContext.runAs(submission.username(), () -> restaurantRepository.save(newRestaurant));
+                tickets.restaurants.put(newRestaurant.getNormalizedName(), newRestaurant);
+                restaurant = newRestaurant;
+            } else {
+                restaurant.incrementSubmissionCount();
+                repeatTickets.add(new RepeatTicket(sessionId, ticket, restaurant));
+            }
+            restaurants.add(restaurant);
+        }
+        restaurantRepository.flush();
+        repeatTickets.forEach(repeat ->
+                restaurantRepository.insertTicket(repeat.sessionId(), repeat.ticket(), repeat.restaurant().getId()));
+        restaurants.forEach(restaurant ->
+                eventPublisher.publishEvent(SessionEvent.restaurantSubmitted(RestaurantResponse.from(restaurant))));
+
+        return restaurants;
+    }
+
+    /**
+     * Next free draw ticket of a session within this write, and the session's restaurants by normalized name.
+     */
+    private static final class SessionTickets {
+        private final Map<String, Restaurant> restaurants = new HashMap<>();
+        private long next;
+
+        private SessionTickets(long firstTicket) {
+            this.next = firstTicket;
+        }
+    }
+
+    private record RepeatTicket(long sessionId, long ticket, Restaurant restaurant) {
+    }
+}
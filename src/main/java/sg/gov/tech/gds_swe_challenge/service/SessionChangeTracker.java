@@ -0,0 +1,95 @@
+package sg.gov.tech.gds_swe_challenge.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Derives the ETags of session reads from the persisted session rows, so every instance hands out the same ETag
+ * for the same data and sees changes made through any other instance.
+ * <p>
+ * A session row bumps {@code version} on every entity update (invite, close, reset) and {@code restaurant_count}
+ * on every submission. Neither ever decreases, so the pair identifies the state of a session summary. The ETags
+ * are read with plain JDBC outside any transaction, hence on the primary and without a Hibernate session.
+ * Callers must take the ETag before reading the data: a change racing with a read then costs an extra full
+ * response, never a stale 304.
+ * </p>
+ */
+@Service
+public class SessionChangeTracker {
+    private static final String SESSION_STATE = "SELECT version, restaurant_count FROM session WHERE id = ?";
+    private static final String PAGE_STATE = "SELECT id, version, restaurant_count FROM session";
+    private static final int ETAG_BYTES = 16;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SessionChangeTracker(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Strong ETag of one page of the session listing. Changes whenever a session on the page changes, or a
+     * session enters or leaves the page. Reads only the id, version and restaurant count of the page's rows,
+     * filtered and ordered like the listing, so it uses the same index.
+     */
+    public String sessionsETag(Long afterId, Boolean closed, String createdBy, int limit) {
+        List<Object> parameters = new ArrayList<>(4);
+        List<String> predicates = new ArrayList<>(3);
+        if (afterId != null) {
+            predicates.add("id > ?");
+            parameters.add(afterId);
+        }
+        if (closed != null) {
+            predicates.add("is_closed = ?");
+            parameters.add(closed);
+        }
+        if (createdBy != null) {
+            predicates.add("created_by = ?");
+            parameters.add(createdBy);
+        }
+        // One row beyond the page decides whether the page has a next cursor
+        parameters.add(SessionService.pageSize(limit) + 1);
+        String where = predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+
+        StringBuilder state = new StringBuilder();
+        jdbcTemplate.query(PAGE_STATE + where + " ORDER BY id LIMIT ?",
+                resultSet -> {
+                    state.append(resultSet.getLong(1)).append(':')
+                            .append(resultSet.getLong(2)).append(':')
+                            .append(resultSet.getLong(3)).append(';');
+                },
+                parameters.toArray());
+        return eTag(digest(state.toString()));
+    }
+
+    /**
+     * Strong ETag of one session summary, or empty if the session does not exist.
+     */
+    public Optional<String> sessionETag(long sessionId) {
+        return jdbcTemplate.query(SESSION_STATE,
+                resultSet -> resultSet.next()
+                        ? Optional.of(eTag(resultSet.getLong(1) + "-" + resultSet.getLong(2)))
+                        : Optional.empty(),
+                sessionId);
+    }
+
+    private static String digest(String state) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(state.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(hash, 0, ETAG_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String eTag(String value) {
+        return "\"" + value + "\"";
+    }
+}
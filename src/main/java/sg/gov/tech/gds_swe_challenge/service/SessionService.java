@@ -1,23 +1,53 @@
 package sg.gov.tech.gds_swe_challenge.service;
 
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sg.gov.tech.gds_swe_challenge.config.ReplicaRoutingDataSource;
 import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+import sg.gov.tech.gds_swe_challenge.dto.SessionEvent;
+import sg.gov.tech.gds_swe_challenge.dto.SessionPage;
+import sg.gov.tech.gds_swe_challenge.dto.SessionSummary;
+import sg.gov.tech.gds_swe_challenge.dto.UserSummary;
 import sg.gov.tech.gds_swe_challenge.entity.Session;
 import sg.gov.tech.gds_swe_challenge.entity.User;
 import sg.gov.tech.gds_swe_challenge.repository.SessionRepository;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 public class SessionService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionService.class);
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_CONFLICT_ATTEMPTS = 4;
+    private static final Duration CONFLICT_BACKOFF = Duration.ofMillis(10);
+
     private final SessionRepository sessionRepository;
     private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public SessionService(SessionRepository sessionRepository,
-                          UserService userService) {
+                          UserService userService,
+                          PlatformTransactionManager transactionManager,
+                          ApplicationEventPublisher eventPublisher) {
         this.sessionRepository = sessionRepository;
         this.userService = userService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -25,6 +55,7 @@ public class SessionService {
      * Creates new session if it doesn't exist.
      * If session is closed for restaurant submissions, throw exception
      */
+    @Timed(value = "app.session.open", description = "Session lookups and creations for submissions", histogram = true, percentiles = {0.5, 0.95, 0.99})
     @Transactional
     public Session getOrCreateSession(long sessionId, String sessionName, String username) {
         return sessionRepository.findById(sessionId)
@@ -35,44 +66,84 @@ public class SessionService {
                     return true;
                 })
                 .orElseGet(() -> {
-                    User user = userService.getUser(username);
-                    if (user.isCanInitiateSession()) {
+                    UserSummary user = userService.getUser(username);
+                    if (user.canInitiateSession()) {
                         Session newSession = new Session();
                         newSession.setName(sessionName);
-                        return sessionRepository.saveAndFlush(newSession);
+                        Session savedSession = sessionRepository.saveAndFlush(newSession);
+                        eventPublisher.publishEvent(SessionEvent.sessionCreated(savedSession.getId(), savedSession.getName()));
+                        return savedSession;
                     } else {
-                        throw new IllegalStateException("User is not allowed to initiate session: %s".formatted(user.getUsername()));
+                        throw new IllegalStateException("User is not allowed to initiate session: %s".formatted(user.username()));
                     }
                 });
     }
 
     /**
-     * Closes session, no more restaurant submissions allowed
+     * Closes session, no more restaurant submissions allowed.
+     * Uses a single conditional update, so only one of several concurrent callers can close the session.
      */
+    @Timed(value = "app.session.close", description = "Session closes", histogram = true, percentiles = {0.5, 0.95, 0.99})
     @Transactional
     public void closeSession(long id, String selectedRestaurant) {
-        Session session = getOpenSession(id);
-        if (session == null) {
+        if (sessionRepository.closeIfOpen(id, selectedRestaurant) == 0) {
             throw new IllegalStateException("Unable to find open session with id: %s".formatted(id));
         }
-        session.setClosed(true);
-        session.setSelectedRestaurant(selectedRestaurant);
-        sessionRepository.saveAndFlush(session);
+        eventPublisher.publishEvent(SessionEvent.sessionClosed(id, selectedRestaurant));
     }
 
+    /**
+     * Reserves a contiguous block of draw tickets, one per restaurant submission to the session.
+     * The counter update keeps the session row locked until commit, so concurrent submissions never share an ordinal.
+     * It only matches an open session, so submissions queued before the session was closed are rejected.
+     *
+     * @return the first reserved ordinal
+     */
     @Transactional
-    public Session resetSession(Long sessionId) {
-        Session session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new IllegalStateException(
-                        "Session not found with id: " + sessionId));
+    public long reserveRestaurantOrdinals(long sessionId, int count) {
+        if (sessionRepository.incrementRestaurantCount(sessionId, count) == 0) {
+            throw new IllegalStateException("Session is already closed for restaurant submissions");
+        }
+        return sessionRepository.findRestaurantCountById(sessionId) - count;
+    }
 
-        if (!session.isClosed()) {
-            throw new IllegalStateException(
-                    "Session with id " + sessionId + " is already open");
+    /**
+     * Records the users as submitters of the session and adds the first-time submitters to its
+     * distinct submitter count. Called after {@link #reserveRestaurantOrdinals}, whose row lock
+     * serialises concurrent submissions to the session.
+     */
+    @Transactional
+    public void recordSubmitters(long sessionId, Collection<String> usernames) {
+        int firstTimeSubmitters = 0;
+        for (String username : usernames) {
+            firstTimeSubmitters += sessionRepository.insertSubmitterIfAbsent(sessionId, username);
         }
-        session.reset();
+        if (firstTimeSubmitters > 0) {
+            sessionRepository.incrementSubmitterCount(sessionId, firstTimeSubmitters);
+        }
+    }
 
-        return sessionRepository.saveAndFlush(session);
+    /**
+     * Reopens a closed session. Retried on version conflicts, where the retry re-reads the session
+     * and rejects the reset if a concurrent caller already reopened it.
+     */
+    @Timed(value = "app.session.reset", description = "Session resets", histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public Session resetSession(Long sessionId) {
+        return retryOnConflict(sessionId, () -> {
+            Session session = sessionRepository.findById(sessionId)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "Session not found with id: " + sessionId));
+
+            if (!session.isClosed()) {
+                throw new IllegalStateException(
+                        "Session with id " + sessionId + " is already open");
+            }
+            session.reset();
+
+            Session saved = sessionRepository.saveAndFlush(session);
+            eventPublisher.publishEvent(SessionEvent.sessionReset(sessionId));
+            return saved;
+        });
     }
 
     /**
@@ -84,11 +155,45 @@ public class SessionService {
     }
 
     /**
-     * Get all sessions
+     * Get a page of session summaries after the given cursor (exclusive).
+     * Fetches one extra row to tell whether another page follows.
+     * Read from the primary, because the response is tagged with the {@link SessionChangeTracker} ETag read there.
+     */
+    @Transactional(readOnly = true)
+    public SessionPage getSessions(Long cursor, Boolean closed, String createdBy, int limit) {
+        int pageSize = pageSize(limit);
+        List<SessionSummary> summaries = ReplicaRoutingDataSource.readFromPrimary(() -> sessionRepository.findSummaries(
+                cursor, closed, createdBy, PageRequest.ofSize(pageSize + 1)));
+        if (summaries.size() <= pageSize) {
+            return new SessionPage(summaries, null);
+        }
+
+        List<SessionSummary> items = summaries.subList(0, pageSize);
+        return new SessionPage(List.copyOf(items), items.getLast().id());
+    }
+
+    static int pageSize(int limit) {
+        return Math.clamp(limit, 1, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Get the summary of one session from its maintained counters, without loading restaurants or invitees.
+     * Read from the primary, because the response is tagged with the {@link SessionChangeTracker} ETag read there.
      */
     @Transactional(readOnly = true)
-    public List<Session> getSessions() {
-        return sessionRepository.findAll();
+    public SessionSummary getSessionSummary(long sessionId) {
+        return ReplicaRoutingDataSource.readFromPrimary(() -> sessionRepository.findSummaryById(sessionId))
+                .orElseThrow(() -> new IllegalStateException("Session not found: " + sessionId));
+    }
+
+    /**
+     * Stream all matching session summaries to the consumer, one row at a time
+     */
+    @Transactional(readOnly = true)
+    public void streamSessions(Boolean closed, String createdBy, Consumer<SessionSummary> consumer) {
+        try (Stream<SessionSummary> summaries = sessionRepository.streamSummaries(closed, createdBy)) {
+            summaries.forEach(consumer);
+        }
     }
 
     /**
@@ -100,37 +205,76 @@ public class SessionService {
     }
 
     /**
-     * Invite user - only by creator
+     * Invite user - only by creator.
+     * All invitees are resolved up front, so one unknown username rejects the whole invite.
+     * Retried on version conflicts, so concurrent invitations to the same session are all kept.
      */
-    @Transactional
+    @Timed(value = "app.session.invite", description = "Session invitations", histogram = true, percentiles = {0.5, 0.95, 0.99})
     public Session inviteUser(Long sessionId, String inviterUsername, List<String> invitedUsernames) {
-        Session session = getSession(sessionId);
-        User inviter = userService.getUser(inviterUsername);
+        return retryOnConflict(sessionId, () -> {
+            Session session = getSession(sessionId);
+            UserSummary inviter = userService.getUser(inviterUsername);
 
-        if (!session.isCreator(inviter)) {
-            throw new IllegalStateException("Only session creator can invite users");
-        }
+            if (!session.isCreator(inviter.username())) {
+                throw new IllegalStateException("Only session creator can invite users");
+            }
 
-        if (session.isClosed()) {
-            throw new IllegalStateException("Cannot invite to closed session");
-        }
+            if (session.isClosed()) {
+                throw new IllegalStateException("Cannot invite to closed session");
+            }
 
-        invitedUsernames
-                .stream()
-                .distinct()
-                .forEach(invitedUsername -> {
-                    User invitedUser = userService.getUser(invitedUsername);
-                    session.addInvitedUser(invitedUser);
-                });
+            List<User> invitees = userService.getExistingUsers(invitedUsernames);
+            invitees.forEach(session::addInvitedUser);
 
-        return sessionRepository.saveAndFlush(session);
+            Session saved = sessionRepository.saveAndFlush(session);
+            eventPublisher.publishEvent(SessionEvent.usersInvited(sessionId,
+                    invitees.stream().map(User::getUsername).toList()));
+            return saved;
+        });
     }
 
-    private Session getSession(Long sessionId) {
+    /**
+     * Gets session by id regardless of state, or throw exception
+     */
+    @Transactional(readOnly = true)
+    public Session getSession(Long sessionId) {
         return sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new IllegalStateException("Session not found: " + sessionId));
     }
 
+    /**
+     * Runs the state transition in its own transaction, retrying a bounded number of times with a
+     * jittered backoff when another transaction updated the session in between.
+     * No row is locked while the session is read, so a conflict only costs the losing caller a retry.
+     */
+    private Session retryOnConflict(Long sessionId, Supplier<Session> transition) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> transition.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt == MAX_CONFLICT_ATTEMPTS) {
+                    throw e;
+                }
+                LOGGER.debug("Session {} modified concurrently, retrying (attempt {})", sessionId, attempt);
+                backOff(attempt);
+            }
+        }
+    }
+
+    private static void backOff(int attempt) {
+        long delay = CONFLICT_BACKOFF.toMillis() * attempt;
+        try {
+            Thread.sleep(delay + ThreadLocalRandom.current().nextLong(delay));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying session update", e);
+        }
+    }
+
+    /**
+     * Validates that the user may submit to the session. Creators are checked in memory,
+     * other users with an indexed lookup on the invite table.
+     */
     public void validateUserCanSubmit(Session session, String username) {
         if (session != null) {
             var sessionId = session.getId();
@@ -144,7 +288,8 @@ public class SessionService {
                             "Session %d is closed for submissions".formatted(sessionId));
                 }
 
-                if (!session.isUserInvited(username)) {
+                if (!session.isCreator(username)
+                        && !sessionRepository.existsInvitedUser(sessionId, username)) {
                     throw new IllegalStateException(
                             "User '%s' not invited to session '%s' (ID: %d)".formatted(
                                     username, session.getName(), sessionId));
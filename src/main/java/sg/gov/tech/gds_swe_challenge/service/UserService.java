@@ -1,15 +1,24 @@
 package sg.gov.tech.gds_swe_challenge.service;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+import sg.gov.tech.gds_swe_challenge.dto.UserSummary;
 import sg.gov.tech.gds_swe_challenge.entity.User;
 import sg.gov.tech.gds_swe_challenge.repository.UserRepository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class UserService {
+    static final int USERNAME_LOOKUP_CHUNK_SIZE = 1000;
+
     private final UserRepository repository;
 
     public UserService(UserRepository repository) {
@@ -17,27 +26,68 @@ public class UserService {
     }
 
     /**
-     * Get user by username or throw exception
+     * Get user by username or throw exception.
+     * Served from the user cache, as users rarely change after the startup import. The cache holds immutable
+     * summaries rather than entities, so cached users are never attached to, or changed through, a persistence context.
      */
-    public User getUser(String username) {
+    @Cacheable(AppConstants.USER_CACHE)
+    public UserSummary getUser(String username) {
         return repository.findByUsername(username)
+                .map(UserSummary::from)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
     }
 
     /**
-     * Get users by usernames
+     * Get users by usernames, unknown usernames are skipped.
+     * Large lists are looked up in chunks to stay within database IN-clause limits.
      */
     public List<User> getUsers(List<String> usernames) {
         if (usernames == null || usernames.isEmpty()) {
             return List.of();
         }
-        return repository.findAllByUsernameIn(usernames);
+        if (usernames.size() <= USERNAME_LOOKUP_CHUNK_SIZE) {
+            return repository.findAllByUsernameIn(usernames);
+        }
+
+        List<User> users = new ArrayList<>(usernames.size());
+        for (int from = 0; from < usernames.size(); from += USERNAME_LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + USERNAME_LOOKUP_CHUNK_SIZE, usernames.size());
+            users.addAll(repository.findAllByUsernameIn(usernames.subList(from, to)));
+        }
+        return users;
+    }
+
+    /**
+     * Get all users by usernames or throw exception listing every unknown username
+     */
+    public List<User> getExistingUsers(List<String> usernames) {
+        List<String> distinctUsernames = usernames.stream().distinct().toList();
+        List<User> users = getUsers(distinctUsernames);
+        if (users.size() == distinctUsernames.size()) {
+            return users;
+        }
+
+        Set<String> foundUsernames = users.stream()
+                .map(User::getUsername)
+                .collect(Collectors.toSet());
+        String unknownUsernames = distinctUsernames.stream()
+                .filter(username -> !foundUsernames.contains(username))
+                .collect(Collectors.joining(", "));
+        throw new IllegalArgumentException("Users not found: " + unknownUsernames);
+    }
+
+    /**
+     * Drop all cached users, call after bulk user writes
+     */
+    @CacheEvict(cacheNames = AppConstants.USER_CACHE, allEntries = true)
+    public void evictAllUsers() {
+        // Eviction is handled by the cache interceptor
     }
 
     /**
      * Check if user can initiate sessions
      */
     public boolean canInitiateSessions(String username) {
-        return getUser(username).isCanInitiateSession();
+        return getUser(username).canInitiateSession();
     }
 }
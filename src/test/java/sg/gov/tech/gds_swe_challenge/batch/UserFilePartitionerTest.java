@@ -0,0 +1,55 @@
+package sg.gov.tech.gds_swe_challenge.batch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class UserFilePartitionerTest {
+
+    @Test
+    void partition_splitsItemsIntoContiguousRanges() {
+        UserFilePartitioner sut = new UserFilePartitioner(csv(10));
+
+        Map<String, ExecutionContext> partitions = sut.partition(3);
+
+        assertThat(partitions).hasSize(3);
+        assertThat(partitions.values())
+                .extracting(context -> context.getLong(UserFilePartitioner.START_ITEM),
+                        context -> context.getLong(UserFilePartitioner.END_ITEM))
+                .containsExactly(
+                        tuple(0L, 4L),
+                        tuple(4L, 8L),
+                        tuple(8L, 10L));
+    }
+
+    @Test
+    void partition_fewerItemsThanGridSize_oneItemPerPartition() {
+        UserFilePartitioner sut = new UserFilePartitioner(csv(2));
+
+        Map<String, ExecutionContext> partitions = sut.partition(4);
+
+        assertThat(partitions).hasSize(2);
+    }
+
+    @Test
+    void partition_headerOnly_noPartitions() {
+        UserFilePartitioner sut = new UserFilePartitioner(csv(0));
+
+        assertThat(sut.partition(4)).isEmpty();
+    }
+
+    private ByteArrayResource csv(int users) {
+        String content = IntStream.range(0, users)
+                .mapToObj(i -> "user" + i + ",true")
+                .collect(Collectors.joining("\n", "username,canInitiateSession\n", "\n"));
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
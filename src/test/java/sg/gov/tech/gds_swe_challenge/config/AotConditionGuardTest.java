@@ -0,0 +1,56 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class AotConditionGuardTest {
+    private final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    private final MockEnvironment environment = new MockEnvironment();
+    private final AotConditionGuard guard = new AotConditionGuard(beanFactory, environment);
+
+    @Test
+    void verifyFrozenConditions_defaultsMatchBuild_passes() {
+        beanFactory.addBean("rateLimitConfig", mock(RateLimitConfig.class));
+
+        assertThatCode(guard::verifyFrozenConditions).doesNotThrowAnyException();
+    }
+
+    @Test
+    void verifyFrozenConditions_enabledMatchesBuild_passes() {
+        beanFactory.addBean("rateLimitConfig", mock(RateLimitConfig.class));
+        beanFactory.addBean("replicaDataSourceConfig", mock(ReplicaDataSourceConfig.class));
+        beanFactory.addBean("virtualThreadPinningMonitor", mock(VirtualThreadPinningMonitor.class));
+        environment.setProperty("app.datasource.replica.enabled", "true");
+        environment.setProperty("spring.threads.virtual.enabled", "true");
+
+        assertThatCode(guard::verifyFrozenConditions).doesNotThrowAnyException();
+    }
+
+    @Test
+    void verifyFrozenConditions_enabledAfterBuild_throws() {
+        beanFactory.addBean("rateLimitConfig", mock(RateLimitConfig.class));
+        environment.setProperty("app.datasource.replica.enabled", "true");
+        environment.setProperty("spring.threads.virtual.enabled", "true");
+
+        assertThatThrownBy(guard::verifyFrozenConditions)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("app.datasource.replica.enabled=true")
+                .hasMessageContaining("spring.threads.virtual.enabled=true")
+                .hasMessageNotContaining("app.rate-limit.enabled");
+    }
+
+    @Test
+    void verifyFrozenConditions_disabledAfterBuild_throws() {
+        beanFactory.addBean("rateLimitConfig", mock(RateLimitConfig.class));
+        environment.setProperty("app.rate-limit.enabled", "false");
+
+        assertThatThrownBy(guard::verifyFrozenConditions)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("app.rate-limit.enabled=false");
+    }
+}
@@ -0,0 +1,67 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class AuditorContextFilterTest {
+    private final AuditorContextFilter sut = new AuditorContextFilter();
+
+    @Test
+    void doFilter_usernameHeader_boundForTheRequestOnly() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/restaurant/submit");
+        request.addHeader(AppConstants.HEADER_X_USERNAME, " alice ");
+        AtomicReference<Optional<String>> seen = new AtomicReference<>();
+
+        sut.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.set(AuditorContext.current()));
+
+        assertThat(seen.get()).contains("alice");
+        assertThat(AuditorContext.current()).isEmpty();
+    }
+
+    @Test
+    void doFilter_noUsernameHeader_auditorUnbound() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/session");
+        AtomicReference<Optional<String>> seen = new AtomicReference<>();
+
+        sut.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.set(AuditorContext.current()));
+
+        assertThat(seen.get()).isEmpty();
+    }
+
+    @Test
+    void doFilter_chainThrowsIOException_propagatedUnchanged() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/session");
+        request.addHeader(AppConstants.HEADER_X_USERNAME, "alice");
+        FilterChain failing = (req, res) -> {
+            throw new IOException("connection reset");
+        };
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> sut.doFilter(request, new MockHttpServletResponse(), failing))
+                .withMessage("connection reset");
+    }
+
+    @Test
+    void doFilter_chainThrowsServletException_propagatedUnchanged() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/session");
+        request.addHeader(AppConstants.HEADER_X_USERNAME, "alice");
+        FilterChain failing = (req, res) -> {
+            throw new ServletException("handler failed");
+        };
+
+        assertThatExceptionOfType(ServletException.class)
+                .isThrownBy(() -> sut.doFilter(request, new MockHttpServletResponse(), failing))
+                .withMessage("handler failed");
+    }
+}
@@ -0,0 +1,66 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.data.domain.AuditorAware;
+import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatabaseConfigTest {
+    private final DatabaseConfig sut = new DatabaseConfig();
+    private final AuditorAware<String> auditorProvider = sut.auditorProvider();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void getCurrentAuditor_boundAuditor_returned() {
+        AuditorContext.runAs("alice", () ->
+                assertThat(auditorProvider.getCurrentAuditor()).contains("alice"));
+    }
+
+    @Test
+    void getCurrentAuditor_nothingBound_system() {
+        assertThat(auditorProvider.getCurrentAuditor()).contains(AppConstants.SYSTEM);
+    }
+
+    @Test
+    void requestContextTaskDecorator_carriesAuditorAndMdcToExecutorThread() throws Exception {
+        TaskDecorator decorator = sut.requestContextTaskDecorator();
+        MDC.put(AppConstants.MDC_REQUEST_ID, "req-1");
+        CompletableFuture<Optional<String>> auditor = new CompletableFuture<>();
+        CompletableFuture<String> requestId = new CompletableFuture<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            AuditorContext.runAs("alice", () -> executor.execute(decorator.decorate(() -> {
+                auditor.complete(auditorProvider.getCurrentAuditor());
+                requestId.complete(MDC.get(AppConstants.MDC_REQUEST_ID));
+            })));
+        }
+
+        assertThat(auditor.get()).contains("alice");
+        assertThat(requestId.get()).isEqualTo("req-1");
+    }
+
+    @Test
+    void undecoratedExecutorTask_auditorNotInherited() throws Exception {
+        CompletableFuture<Optional<String>> auditor = new CompletableFuture<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            AuditorContext.runAs("alice", () -> executor.execute(() ->
+                    auditor.complete(auditorProvider.getCurrentAuditor())));
+        }
+
+        assertThat(auditor.get()).contains(AppConstants.SYSTEM);
+    }
+}
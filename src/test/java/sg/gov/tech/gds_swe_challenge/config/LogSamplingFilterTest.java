@@ -0,0 +1,68 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplingFilterTest {
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final Logger controllerLogger = loggerContext.getLogger("sg.gov.tech.gds_swe_challenge.controller.RestaurantController");
+    private final Logger serviceLogger = loggerContext.getLogger("sg.gov.tech.gds_swe_challenge.service.RestaurantService");
+
+    @Test
+    void decide_rateZero_dropsInfoOfSampledLoggersOnly() {
+        LogSamplingFilter sut = filter(0.0);
+
+        assertThat(sut.decide(null, controllerLogger, Level.INFO, "submitRestaurant", null, null)).isEqualTo(FilterReply.DENY);
+        assertThat(sut.decide(null, serviceLogger, Level.INFO, "addRestaurant", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void decide_warnAndError_neverSampled() {
+        LogSamplingFilter sut = filter(0.0);
+
+        assertThat(sut.decide(null, controllerLogger, Level.WARN, "slow", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(sut.decide(null, controllerLogger, Level.ERROR, "failed", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void decide_enabledCheckWithoutMessage_notSampled() {
+        LogSamplingFilter sut = filter(0.0);
+
+        assertThat(sut.decide(null, controllerLogger, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void decide_rateOne_keepsEverything() {
+        LogSamplingFilter sut = filter(1.0);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sut.decide(null, controllerLogger, Level.INFO, "submitRestaurant", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    void decide_partialRate_keepsRoughlyThatFraction() {
+        LogSamplingFilter sut = filter(0.25);
+
+        int kept = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (sut.decide(null, controllerLogger, Level.INFO, "submitRestaurant", null, null) == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+
+        assertThat(kept).isBetween(2_000, 3_000);
+    }
+
+    private static LogSamplingFilter filter(double rate) {
+        LogSamplingFilter filter = new LogSamplingFilter();
+        filter.setLoggerName("sg.gov.tech.gds_swe_challenge.controller");
+        filter.setRate(rate);
+        return filter;
+    }
+}
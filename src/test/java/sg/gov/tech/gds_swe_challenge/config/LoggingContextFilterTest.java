@@ -0,0 +1,53 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggingContextFilterTest {
+    private final LoggingContextFilter sut = new LoggingContextFilter();
+
+    @Test
+    void doFilter_requestIdAndUsernameInMdc_clearedAfterwards() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/session/1/summary");
+        request.addHeader(AppConstants.HEADER_X_REQUEST_ID, "req-123");
+        request.addHeader(AppConstants.HEADER_X_USERNAME, " alice ");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Map<String, String> seen = new HashMap<>();
+
+        FilterChain controller = (req, res) -> {
+            MDC.put(AppConstants.MDC_SESSION_ID, "1");
+            seen.putAll(MDC.getCopyOfContextMap());
+        };
+
+        sut.doFilter(request, response, controller);
+
+        assertThat(seen).containsEntry(AppConstants.MDC_REQUEST_ID, "req-123")
+                .containsEntry(AppConstants.MDC_USERNAME, "alice")
+                .containsEntry(AppConstants.MDC_SESSION_ID, "1");
+        assertThat(response.getHeader(AppConstants.HEADER_X_REQUEST_ID)).isEqualTo("req-123");
+        assertThat(MDC.get(AppConstants.MDC_REQUEST_ID)).isNull();
+        assertThat(MDC.get(AppConstants.MDC_USERNAME)).isNull();
+        assertThat(MDC.get(AppConstants.MDC_SESSION_ID)).isNull();
+    }
+
+    @Test
+    void doFilter_malformedRequestId_replacedWithGeneratedOne() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/session");
+        request.addHeader(AppConstants.HEADER_X_REQUEST_ID, "bad id\nwith newline");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        sut.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getHeader(AppConstants.HEADER_X_REQUEST_ID)).matches("[0-9a-f]{16}");
+    }
+}
@@ -0,0 +1,17 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Provides the meter registry to web slice tests, which do not auto-configure metrics
+ */
+@TestConfiguration
+public class MetricsTestConfig {
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
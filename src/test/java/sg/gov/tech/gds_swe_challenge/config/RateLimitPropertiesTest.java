@@ -0,0 +1,48 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import sg.gov.tech.gds_swe_challenge.config.RateLimitProperties.Limit;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitPropertiesTest {
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final Validator validator = validatorFactory.getValidator();
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void validate_positiveLimits_valid() {
+        assertThat(validator.validate(properties(new Limit(20, 40), new Limit(0.5, 1)))).isEmpty();
+    }
+
+    @Test
+    void validate_zeroRefillRate_rejected() {
+        assertThat(validator.validate(properties(new Limit(0, 40), new Limit(5, 10))))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("defaultLimit.refillPerSecond");
+    }
+
+    @Test
+    void validate_endpointWithEmptyBucket_rejected() {
+        assertThat(validator.validate(properties(new Limit(20, 40), new Limit(5, 0))))
+                .extracting(ConstraintViolation::getMessage)
+                .hasSize(1);
+    }
+
+    private static RateLimitProperties properties(Limit defaultLimit, Limit submitLimit) {
+        return new RateLimitProperties(true, defaultLimit, Map.of("POST /restaurant/submit", submitLimit),
+                Duration.ofMinutes(1), 100_000);
+    }
+}
@@ -0,0 +1,60 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+import sg.gov.tech.gds_swe_challenge.service.SessionService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Boots the application with the replica enabled on its local default, a read-only pool on the primary database.
+ * The lag is checked once at startup only, so every replica connection afterwards comes from the call under test.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.lag-check-interval=1h"
+})
+@Import(TestConfig.class)
+class ReplicaDataSourceConfigTest {
+    @MockitoSpyBean(name = "replicaDataSource")
+    private HikariDataSource replicaDataSource;
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+    @Autowired
+    private SessionService sessionService;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        for (int i = 0; i < 100 && !replicaLagMonitor.isReplicaUsable(); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        clearInvocations(replicaDataSource);
+    }
+
+    @Test
+    void readOnlyServiceCall_replicaCaughtUp_readsFromReplica() throws Exception {
+        assertThat(sessionService.getSession(AppConstants.GLOBAL_SESSION_ID).getId())
+                .isEqualTo(AppConstants.GLOBAL_SESSION_ID);
+
+        verify(replicaDataSource, atLeastOnce()).getConnection();
+    }
+
+    @Test
+    void readOnlyServiceCall_primaryRequired_skipsReplica() throws Exception {
+        assertThat(sessionService.getSessionSummary(AppConstants.GLOBAL_SESSION_ID).id())
+                .isEqualTo(AppConstants.GLOBAL_SESSION_ID);
+
+        verify(replicaDataSource, never()).getConnection();
+    }
+}
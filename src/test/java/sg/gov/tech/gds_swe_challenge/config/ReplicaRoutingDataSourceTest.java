@@ -0,0 +1,122 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes between two independent in-memory H2 databases, each holding a marker row naming itself.
+ */
+class ReplicaRoutingDataSourceTest {
+    private static final String WHICH_DATABASE = "SELECT name FROM marker";
+
+    private final DataSource primary = h2("replica-routing-primary");
+    private final DataSource replica = h2("replica-routing-replica");
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+        initialize(primary, "primary");
+        initialize(replica, "replica");
+        monitor = new ReplicaLagMonitor(primary, replica,
+                new ReplicaDataSourceProperties(true, null, "sa", "", 2, Duration.ofSeconds(5), Duration.ofSeconds(1)));
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, monitor::isReplicaUsable));
+        jdbcTemplate = new JdbcTemplate(routing);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(routing));
+    }
+
+    @Test
+    void readOnlyTransaction_replicaCaughtUp_readsReplica() {
+        replicateHeartbeat(Instant.now());
+        monitor.checkLag();
+
+        assertThat(monitor.isReplicaUsable()).isTrue();
+        assertThat(query(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransaction_replicaCaughtUp_usesPrimary() {
+        replicateHeartbeat(Instant.now());
+        monitor.checkLag();
+
+        assertThat(query(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_readFromPrimary_usesPrimary() {
+        replicateHeartbeat(Instant.now());
+        monitor.checkLag();
+
+        assertThat(ReplicaRoutingDataSource.readFromPrimary(() -> query(true))).isEqualTo("primary");
+    }
+
+    @Test
+    void noTransaction_usesPrimary() {
+        replicateHeartbeat(Instant.now());
+        monitor.checkLag();
+
+        assertThat(jdbcTemplate.queryForObject(WHICH_DATABASE, String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_replicaLagging_fallsBackToPrimary() {
+        replicateHeartbeat(Instant.now());
+        monitor.checkLag();
+        replicateHeartbeat(Instant.now().minus(Duration.ofMinutes(1)));
+        monitor.checkLag();
+
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(query(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_replicaUnreachable_fallsBackToPrimary() {
+        new JdbcTemplate(replica).execute("DROP TABLE replica_heartbeat");
+        monitor.checkLag();
+
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(query(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_beforeFirstLagCheck_usesPrimary() {
+        assertThat(query(true)).isEqualTo("primary");
+    }
+
+    private String query(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(WHICH_DATABASE, String.class));
+    }
+
+    private void replicateHeartbeat(Instant beatAt) {
+        new JdbcTemplate(replica).update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", Timestamp.from(beatAt));
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static void initialize(DataSource dataSource, String name) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS marker");
+        jdbc.execute("DROP TABLE IF EXISTS replica_heartbeat");
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbc.update("INSERT INTO marker VALUES (?)", name);
+        jdbc.execute("CREATE TABLE replica_heartbeat (id INT PRIMARY KEY, beat_at TIMESTAMP NOT NULL)");
+        jdbc.update("INSERT INTO replica_heartbeat VALUES (1, CURRENT_TIMESTAMP)");
+    }
+}
@@ -0,0 +1,89 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+import sg.gov.tech.gds_swe_challenge.entity.User;
+import sg.gov.tech.gds_swe_challenge.repository.UserRepository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TestConfig.class)
+class UserBatchConfigTest {
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ItemWriter<User> sut;
+
+    @BeforeEach
+    void setup() {
+        UserImportProperties properties = new UserImportProperties(new ByteArrayResource(new byte[0]), 1000, 4);
+        sut = new UserBatchConfig(properties, false).userItemWriter(dataSource);
+    }
+
+    @Test
+    void userItemWriter_newUsers_inserted() throws Exception {
+        sut.write(Chunk.of(createUser("import-new-1", true), createUser("import-new-2", false)));
+        entityManager.clear();
+
+        assertThat(userRepository.findByUsername("import-new-1"))
+                .map(User::isCanInitiateSession)
+                .contains(true);
+        assertThat(userRepository.findByUsername("import-new-2"))
+                .map(User::isCanInitiateSession)
+                .contains(false);
+    }
+
+    @Test
+    void userItemWriter_existingUser_privilegeUpdated() throws Exception {
+        User existing = createUser("import-existing", false);
+        entityManager.persistAndFlush(existing);
+        entityManager.clear();
+
+        sut.write(Chunk.of(createUser("import-existing", true)));
+        entityManager.clear();
+
+        assertThat(userRepository.findByUsername("import-existing"))
+                .map(User::isCanInitiateSession)
+                .contains(true);
+    }
+
+    @Test
+    void userItemWriter_existingUserUnchanged_rowNotUpdated() throws Exception {
+        User existing = createUser("import-unchanged", true);
+        entityManager.persistAndFlush(existing);
+        entityManager.clear();
+        LocalDateTime updatedAt = userRepository.findByUsername("import-unchanged").orElseThrow().getUpdatedAt();
+
+        sut.write(Chunk.of(createUser("import-unchanged", true)));
+        entityManager.clear();
+
+        assertThat(userRepository.findByUsername("import-unchanged"))
+                .map(User::getUpdatedAt)
+                .contains(updatedAt);
+    }
+
+    private User createUser(String username, boolean canInitiateSession) {
+        User user = new User();
+        user.setUsername(username);
+        user.setCanInitiateSession(canInitiateSession);
+        user.setCreatedBy(AppConstants.SYSTEM);
+        user.setUpdatedBy(AppConstants.SYSTEM);
+        return user;
+    }
+}
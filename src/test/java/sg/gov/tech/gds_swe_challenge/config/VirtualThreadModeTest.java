@@ -0,0 +1,49 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("virtual-threads")
+@Import(TestConfig.class)
+class VirtualThreadModeTest {
+    @Autowired
+    private ApplicationContext context;
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void applicationTaskExecutor_virtualThreadsProfile_runsTasksOnVirtualThreads() throws Exception {
+        boolean virtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get();
+
+        assertThat(virtual).isTrue();
+    }
+
+    @Test
+    void dataSource_virtualThreadsProfile_poolBoundsDatabaseConcurrency() throws Exception {
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+
+        assertThat(pool.getMaximumPoolSize()).isEqualTo(20);
+        assertThat(pool.getMinimumIdle()).isEqualTo(5);
+        assertThat(pool.getConnectionTimeout()).isEqualTo(3000);
+    }
+
+    @Test
+    void pinningMonitor_virtualThreadsProfile_registered() {
+        assertThat(context.getBeansOfType(VirtualThreadPinningMonitor.class)).hasSize(1);
+    }
+}
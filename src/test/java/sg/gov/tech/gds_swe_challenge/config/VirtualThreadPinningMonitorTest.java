@@ -0,0 +1,88 @@
+package sg.gov.tech.gds_swe_challenge.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(OutputCaptureExtension.class)
+class VirtualThreadPinningMonitorTest {
+    private static final Duration LOG_TIMEOUT = Duration.ofSeconds(10);
+
+    private VirtualThreadPinningMonitor sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new VirtualThreadPinningMonitor(new VirtualThreadProperties(Duration.ofMillis(10)));
+        sut.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.stop();
+    }
+
+    @Test
+    void start_virtualThreadPinnedAboveThreshold_logsPinnedThread(CapturedOutput output) throws Exception {
+        Thread.ofVirtual().name("pinned-vt").start(() -> runPinned(() -> sleep(Duration.ofMillis(100)))).join();
+
+        assertThat(awaitLog(output, "Virtual thread pinned for")).contains("[thread: pinned-vt]");
+    }
+
+    @Test
+    void start_virtualThreadPinnedBelowThreshold_logsNothing(CapturedOutput output) throws Exception {
+        Thread.ofVirtual().start(() -> runPinned(() -> sleep(Duration.ofMillis(1)))).join();
+        // A pin above the threshold afterwards proves the stream has already delivered the short one
+        Thread.ofVirtual().name("pinned-vt").start(() -> runPinned(() -> sleep(Duration.ofMillis(100)))).join();
+
+        String logged = awaitLog(output, "[thread: pinned-vt]");
+        assertThat(logged.split("Virtual thread pinned for", -1)).hasSize(2);
+    }
+
+    /**
+     * Runs the task below a native frame, which keeps a virtual thread on its carrier when it blocks. Since
+     * JDK 24 blocking in {@code synchronized} no longer pins, so a native upcall is the reliable way to pin.
+     */
+    private static void runPinned(Runnable task) {
+        try (Arena arena = Arena.ofConfined()) {
+            MethodHandle run = MethodHandles.lookup()
+                    .findVirtual(Runnable.class, "run", MethodType.methodType(void.class))
+                    .bindTo(task);
+            Linker linker = Linker.nativeLinker();
+            MemorySegment upcall = linker.upcallStub(run, FunctionDescriptor.ofVoid(), arena);
+            linker.downcallHandle(upcall, FunctionDescriptor.ofVoid()).invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String awaitLog(CapturedOutput output, String expected) throws InterruptedException {
+        long deadline = System.nanoTime() + LOG_TIMEOUT.toNanos();
+        while (!output.getOut().contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(output.getOut()).contains(expected);
+        return output.getOut();
+    }
+}
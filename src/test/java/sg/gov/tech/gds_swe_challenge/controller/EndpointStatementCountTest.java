@@ -0,0 +1,191 @@
+package sg.gov.tech.gds_swe_challenge.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.client.RestTestClient;
+import sg.gov.tech.gds_swe_challenge.config.TestConfig;
+import sg.gov.tech.gds_swe_challenge.dto.InviteUserRequest;
+import sg.gov.tech.gds_swe_challenge.dto.RestaurantResponse;
+import sg.gov.tech.gds_swe_challenge.dto.SubmitRestaurantRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of SQL statements each endpoint prepares, so lazy-loading regressions fail fast.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // both classes share this context and submit as the same user back to back
+        "app.rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+@Import(TestConfig.class)
+class EndpointStatementCountTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private RestTestClient client;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        client = RestTestClient.bindTo(mockMvc).build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void submitRestaurant_newSession() {
+        statistics.clear();
+
+        submit("alice", new SubmitRestaurantRequest("Kopitiam", -1L, "team-new"));
+
+        // session lookup, user lookup, session insert, ticket reservation (2), submitter record (2), name lookup,
+        // sequence, restaurant insert
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void submitRestaurant_invitedUser() {
+        long sessionId = createSession("team-invited");
+        invite(sessionId, "bob");
+        statistics.clear();
+
+        submit("bob", new SubmitRestaurantRequest("Din Tai Fung", sessionId, "team-invited"));
+
+        // session lookup, invitation check, ticket reservation (2), submitter record (2), name lookup, sequence,
+        // restaurant insert
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(9);
+    }
+
+    @Test
+    void submitRestaurant_returningSubmitter() {
+        long sessionId = createSession("team-returning");
+        statistics.clear();
+
+        submit("alice", new SubmitRestaurantRequest("Din Tai Fung", sessionId, "team-returning"));
+
+        // session lookup, ticket reservation (2), submitter check, name lookup, sequence, restaurant insert
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7);
+    }
+
+    @Test
+    void submitRestaurant_repeatedName() {
+        long sessionId = createSession("team-repeat");
+        statistics.clear();
+
+        submit("alice", new SubmitRestaurantRequest("kopitiam", sessionId, "team-repeat"));
+
+        // session lookup, ticket reservation (2), submitter check, name lookup, count update, ticket insert
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7);
+    }
+
+    @Test
+    void getSessionSummary() {
+        long sessionId = createSession("team-summary");
+        invite(sessionId, "bob");
+        statistics.clear();
+
+        client.get().uri("/session/{sessionId}/summary", sessionId)
+                .exchange()
+                .expectStatus().isOk();
+
+        // summary read; the ETag read goes through JDBC and is not counted by Hibernate
+        assertThat(statistics.getPrepareStatementCount()).isOne();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void inviteUser() {
+        long sessionId = createSession("team-invite");
+        statistics.clear();
+
+        invite(sessionId, "bob");
+
+        // session lookup, user lookups, invited users load, invite insert, session audit update
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        assertThat(statistics.getCollectionFetchCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void getRandomRestaurant() {
+        long sessionId = createSession("team-random");
+        statistics.clear();
+
+        client.get().uri("/restaurant/random?sessionId={sessionId}", sessionId)
+                .header("X-Username", "alice")
+                .exchange()
+                .expectStatus().isOk();
+
+        // session lookup, indexed draw, conditional close
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void resetSession() {
+        long sessionId = createSession("team-reset");
+        client.get().uri("/restaurant/random?sessionId={sessionId}", sessionId)
+                .header("X-Username", "alice")
+                .exchange()
+                .expectStatus().isOk();
+        statistics.clear();
+
+        client.patch().uri("/session/{sessionId}/reset", sessionId)
+                .exchange()
+                .expectStatus().isOk();
+
+        // session lookup, session update
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void getSessions() {
+        createSession("team-list");
+        statistics.clear();
+
+        client.get().uri("/session?limit=10")
+                .exchange()
+                .expectStatus().isOk();
+
+        // page read; the ETag read goes through JDBC and is not counted by Hibernate
+        assertThat(statistics.getPrepareStatementCount()).isOne();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    private long createSession(String sessionName) {
+        return submit("alice", new SubmitRestaurantRequest("Kopitiam", -1L, sessionName)).sessionId();
+    }
+
+    private RestaurantResponse submit(String username, SubmitRestaurantRequest request) {
+        RestaurantResponse response = client.post().uri("/restaurant/submit")
+                .header("X-Username", username)
+                .body(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(RestaurantResponse.class)
+                .returnResult()
+                .getResponseBody();
+        assertThat(response).isNotNull();
+        return response;
+    }
+
+    private void invite(long sessionId, String username) {
+        client.post().uri("/session/invite")
+                .header("X-Username", "alice")
+                .body(new InviteUserRequest(sessionId, List.of(username)))
+                .exchange()
+                .expectStatus().isOk();
+    }
+}
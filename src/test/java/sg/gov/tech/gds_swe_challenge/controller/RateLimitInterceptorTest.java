@@ -0,0 +1,95 @@
+package sg.gov.tech.gds_swe_challenge.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import sg.gov.tech.gds_swe_challenge.config.RateLimitProperties;
+import sg.gov.tech.gds_swe_challenge.config.RateLimitProperties.Limit;
+import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+import sg.gov.tech.gds_swe_challenge.exception.RateLimitExceededException;
+import sg.gov.tech.gds_swe_challenge.service.RateLimiter;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitInterceptorTest {
+    private final RateLimiter rateLimiter = new RateLimiter(new RateLimitProperties(true, new Limit(20, 40),
+            Map.of("PATCH /session/{sessionId}/reset", new Limit(1, 1)), Duration.ofMinutes(1), 100_000),
+            new SimpleMeterRegistry());
+    private final RateLimitInterceptor sut = new RateLimitInterceptor(rateLimiter);
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.shutdown();
+    }
+
+    @Test
+    void preHandle_limitKeyedOnPathPattern_differentSessionsShareBudget() {
+        assertThat(preHandle(reset("/session/1/reset", "alice"))).isTrue();
+
+        assertThatExceptionOfType(RateLimitExceededException.class)
+                .isThrownBy(() -> preHandle(reset("/session/2/reset", "alice")))
+                .withMessage("Rate limit exceeded for PATCH /session/{sessionId}/reset")
+                .satisfies(ex -> assertThat(ex.getRetryAfter()).isPositive());
+    }
+
+    @Test
+    void preHandle_usersHaveSeparateBudgets() {
+        assertThat(preHandle(reset("/session/1/reset", "alice"))).isTrue();
+        assertThat(preHandle(reset("/session/1/reset", "bob"))).isTrue();
+    }
+
+    @Test
+    void preHandle_missingUsername_limitedByAddress() {
+        MockHttpServletRequest first = reset("/session/1/reset", null);
+        first.setRemoteAddr("10.0.0.1");
+        MockHttpServletRequest second = reset("/session/1/reset", null);
+        second.setRemoteAddr("10.0.0.2");
+        MockHttpServletRequest third = reset("/session/1/reset", null);
+        third.setRemoteAddr("10.0.0.1");
+
+        assertThat(preHandle(first)).isTrue();
+        assertThat(preHandle(second)).isTrue();
+        assertThatThrownBy(() -> preHandle(third)).isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void preHandle_asyncDispatch_notCountedAgain() {
+        MockHttpServletRequest request = reset("/session/1/reset", "alice");
+        assertThat(preHandle(request)).isTrue();
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+
+        assertThat(preHandle(request)).isTrue();
+    }
+
+    @Test
+    void preHandle_noMatchingHandler_sharesOneUnmatchedBucket() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(preHandle(new MockHttpServletRequest("GET", "/random-" + i))).isTrue();
+        }
+
+        assertThat(rateLimiter.getBucketCount()).isOne();
+    }
+
+    private boolean preHandle(MockHttpServletRequest request) {
+        return sut.preHandle(request, new MockHttpServletResponse(), new Object());
+    }
+
+    private static MockHttpServletRequest reset(String uri, String username) {
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/session/{sessionId}/reset");
+        if (username != null) {
+            request.addHeader(AppConstants.HEADER_X_USERNAME, username);
+        }
+        return request;
+    }
+}
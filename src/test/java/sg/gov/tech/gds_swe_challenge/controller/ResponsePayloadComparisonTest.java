@@ -0,0 +1,176 @@
+package sg.gov.tech.gds_swe_challenge.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.client.RestTestClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sg.gov.tech.gds_swe_challenge.config.TestConfig;
+import sg.gov.tech.gds_swe_challenge.dto.InviteUserRequest;
+import sg.gov.tech.gds_swe_challenge.dto.RestaurantResponse;
+import sg.gov.tech.gds_swe_challenge.dto.SessionSummary;
+import sg.gov.tech.gds_swe_challenge.dto.SubmitRestaurantRequest;
+import sg.gov.tech.gds_swe_challenge.repository.RestaurantRepository;
+import sg.gov.tech.gds_swe_challenge.repository.SessionRepository;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the response records against the entities the endpoints used to return. For each endpoint, the entity
+ * the endpoint works on is loaded first, then the statements issued and bytes written to serialise the response are
+ * measured both ways. Entity serialisation runs inside a transaction, as it used to under open-in-view, so its lazy
+ * loads are counted. The measurements are logged as one line per endpoint.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // both classes share this context and submit as the same user back to back
+        "app.rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+@Import(TestConfig.class)
+class ResponsePayloadComparisonTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponsePayloadComparisonTest.class);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JsonMapper jsonMapper;
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    private RestTestClient client;
+    private Statistics statistics;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+        client = RestTestClient.bindTo(mockMvc).build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void submitRestaurant_recordNeedsNoStatementsAndFewerBytes() {
+        RestaurantResponse submitted = submit(new SubmitRestaurantRequest("Kopitiam", -1L, "team-payload-submit"));
+
+        compare("POST /restaurant/submit", () -> restaurantRepository.findById(submitted.id()).orElseThrow(),
+                restaurant -> {
+                    // Restaurant.session used to be fetched eagerly with every restaurant
+                    Hibernate.initialize(restaurant.getSession());
+                    return restaurant;
+                },
+                RestaurantResponse::from);
+    }
+
+    @Test
+    void getRandomRestaurant_recordNeedsNoStatementsAndFewerBytes() {
+        long sessionId = createSessionWithRestaurants("team-payload-random", 3);
+        RestaurantResponse drawn = client.get().uri("/restaurant/random?sessionId={sessionId}", sessionId)
+                .header("X-Username", "alice")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(RestaurantResponse.class)
+                .returnResult()
+                .getResponseBody();
+        assertThat(drawn).isNotNull();
+
+        compare("GET /restaurant/random", () -> restaurantRepository.findById(drawn.id()).orElseThrow(),
+                restaurant -> {
+                    Hibernate.initialize(restaurant.getSession());
+                    return restaurant;
+                },
+                RestaurantResponse::from);
+    }
+
+    @Test
+    void inviteUser_recordNeedsNoStatementsAndFewerBytes() {
+        long sessionId = createSessionWithRestaurants("team-payload-invite", 3);
+        client.post().uri("/session/invite")
+                .header("X-Username", "alice")
+                .body(new InviteUserRequest(sessionId, List.of("bob", "charlie", "dave")))
+                .exchange()
+                .expectStatus().isOk();
+
+        Payload[] payloads = compare("POST /session/invite",
+                () -> sessionRepository.findById(sessionId).orElseThrow(),
+                session -> session,
+                SessionSummary::from);
+
+        // The session used to be serialised with its restaurants and invitees, each loaded lazily
+        assertThat(payloads[0].statements()).isEqualTo(2);
+    }
+
+    /**
+     * Loads the entity in a transaction, then measures serialising it as the entity and as the response record.
+     *
+     * @return the entity and the record measurement, in that order
+     */
+    private <E> Payload[] compare(String endpoint, Supplier<E> load, Function<E, Object> asEntityResponse,
+                                  Function<E, Object> asRecordResponse) {
+        Payload[] payloads = transactionTemplate.execute(status -> {
+            E entity = load.get();
+            return new Payload[]{measure(() -> asEntityResponse.apply(entity)), measure(() -> asRecordResponse.apply(entity))};
+        });
+        assertThat(payloads).isNotNull();
+        Payload entity = payloads[0];
+        Payload record = payloads[1];
+        LOGGER.info("{}: entity {} statements / {} bytes, record {} statements / {} bytes",
+                endpoint, entity.statements(), entity.bytes(), record.statements(), record.bytes());
+
+        assertThat(record.statements()).isZero();
+        assertThat(record.bytes()).isLessThan(entity.bytes());
+        return payloads;
+    }
+
+    private Payload measure(Supplier<Object> response) {
+        statistics.clear();
+        byte[] body = jsonMapper.writeValueAsBytes(response.get());
+        return new Payload(statistics.getPrepareStatementCount(), body.length);
+    }
+
+    private long createSessionWithRestaurants(String sessionName, int restaurants) {
+        long sessionId = submit(new SubmitRestaurantRequest("Restaurant 0", -1L, sessionName)).sessionId();
+        for (int i = 1; i < restaurants; i++) {
+            submit(new SubmitRestaurantRequest("Restaurant " + i, sessionId, sessionName));
+        }
+        return sessionId;
+    }
+
+    private RestaurantResponse submit(SubmitRestaurantRequest request) {
+        RestaurantResponse response = client.post().uri("/restaurant/submit")
+                .header("X-Username", "alice")
+                .body(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(RestaurantResponse.class)
+                .returnResult()
+                .getResponseBody();
+        assertThat(response).isNotNull();
+        return response;
+    }
+
+    private record Payload(long statements, int bytes) {
+    }
+}
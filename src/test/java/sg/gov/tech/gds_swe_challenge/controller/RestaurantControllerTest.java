@@ -4,18 +4,26 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.client.RestTestClient;
+import sg.gov.tech.gds_swe_challenge.config.MetricsTestConfig;
 import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+import sg.gov.tech.gds_swe_challenge.dto.RestaurantResponse;
 import sg.gov.tech.gds_swe_challenge.dto.SubmitRestaurantRequest;
 import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
+import sg.gov.tech.gds_swe_challenge.entity.Session;
 import sg.gov.tech.gds_swe_challenge.service.RestaurantService;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 @WebMvcTest(RestaurantController.class)
+@Import(MetricsTestConfig.class)
 class RestaurantControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -36,6 +44,7 @@ class RestaurantControllerTest {
         savedRestaurant.setId(1L);
         savedRestaurant.setName("Kopitiam");
         savedRestaurant.setCreatedBy("Test User");
+        savedRestaurant.setSession(createSession(AppConstants.GLOBAL_SESSION_ID));
         when(restaurantService.addRestaurant(request, "Test User"))
                 .thenReturn(savedRestaurant);
 
@@ -44,12 +53,13 @@ class RestaurantControllerTest {
                 .body(request)
                 .exchange()
                 .expectStatus().isCreated()
-                .expectBody(Restaurant.class)
+                .expectBody(RestaurantResponse.class)
                 .value(restaurant -> {
                     assertThat(restaurant).isNotNull();
-                    assertThat(restaurant.getId()).isOne();
-                    assertThat(restaurant.getName()).isEqualTo("Kopitiam");
-                    assertThat(restaurant.getCreatedBy()).isEqualTo("Test User");
+                    assertThat(restaurant.id()).isOne();
+                    assertThat(restaurant.name()).isEqualTo("Kopitiam");
+                    assertThat(restaurant.sessionId()).isEqualTo(AppConstants.GLOBAL_SESSION_ID);
+                    assertThat(restaurant.createdBy()).isEqualTo("Test User");
                 });
     }
 
@@ -88,14 +98,33 @@ class RestaurantControllerTest {
                 .header("X-Username", "Test User")
                 .exchange()
                 .expectStatus().isOk()
-                .expectBody(Restaurant.class)
+                .expectBody(RestaurantResponse.class)
                 .value(restaurant -> {
                     assertThat(restaurant).isNotNull();
-                    assertThat(restaurant.getName()).isEqualTo("Pizza Hut");
-                    assertThat(restaurant.getId()).isOne();
+                    assertThat(restaurant.name()).isEqualTo("Pizza Hut");
+                    assertThat(restaurant.id()).isOne();
                 });
     }
 
+    @Test
+    void getRandomRestaurant_responseOmitsSessionGraph() {
+        Restaurant savedRestaurant = new Restaurant();
+        savedRestaurant.setId(1L);
+        savedRestaurant.setName("Pizza Hut");
+        savedRestaurant.setSession(createSession(AppConstants.GLOBAL_SESSION_ID));
+        when(restaurantService.getRandomRestaurant(AppConstants.GLOBAL_SESSION_ID, "Test User")).thenReturn(savedRestaurant);
+
+        client.get()
+                .uri("/restaurant/random")
+                .header("X-Username", "Test User")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .value(body -> assertThat(body)
+                        .containsOnlyKeys("id", "name", "sessionId", "submissionCount", "createdBy", "createdAt")
+                        .containsEntry("sessionId", 0));
+    }
+
     @Test
     void getRandomRestaurant_NoRestaurants() {
         when(restaurantService.getRandomRestaurant(AppConstants.GLOBAL_SESSION_ID, "Test User")).thenReturn(null);
@@ -106,4 +135,11 @@ class RestaurantControllerTest {
                 .exchange()
                 .expectStatus().isNotFound();
     }
+
+    private Session createSession(Long id) {
+        Session session = new Session();
+        session.setId(id);
+        session.setName(AppConstants.GLOBAL_SESSION_NAME);
+        return session;
+    }
 }
@@ -3,69 +3,283 @@ package sg.gov.tech.gds_swe_challenge.controller;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.client.RestTestClient;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sg.gov.tech.gds_swe_challenge.config.MetricsTestConfig;
+import sg.gov.tech.gds_swe_challenge.config.SessionCacheProperties;
+import sg.gov.tech.gds_swe_challenge.dto.InviteUserRequest;
+import sg.gov.tech.gds_swe_challenge.dto.SessionEvent;
+import sg.gov.tech.gds_swe_challenge.dto.SessionPage;
+import sg.gov.tech.gds_swe_challenge.dto.SessionSummary;
 import sg.gov.tech.gds_swe_challenge.entity.Session;
+import sg.gov.tech.gds_swe_challenge.entity.User;
+import sg.gov.tech.gds_swe_challenge.service.SessionChangeTracker;
 import sg.gov.tech.gds_swe_challenge.service.SessionService;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(SessionController.class)
+@Import(MetricsTestConfig.class)
+@EnableConfigurationProperties(SessionCacheProperties.class)
 class SessionControllerTest {
+    private static final String SESSIONS_ETAG = "\"5d41402abc4b2a76b9719d911017c592\"";
+    private static final String SESSION_ETAG = "\"3-5\"";
     @Autowired
     private MockMvc mockMvc;
     @MockitoBean
     private SessionService sessionService;
+    @MockitoBean
+    private SessionEventBroadcaster eventBroadcaster;
+    @MockitoBean
+    private SessionChangeTracker changeTracker;
     private RestTestClient client;
 
     @BeforeEach
     void setup() {
         client = RestTestClient.bindTo(mockMvc).build();
+        when(changeTracker.sessionsETag(any(), any(), any(), anyInt())).thenReturn(SESSIONS_ETAG);
+        when(changeTracker.sessionETag(anyLong())).thenReturn(Optional.of(SESSION_ETAG));
     }
 
     @Test
     void getSessions_allSessions() {
-        List<Session> sessions = List.of(
-                createSession(0L, "GLOBAL", false, null),
-                createSession(1L, "team-alpha", true, "Kopitiam"),
-                createSession(2L, "team-beta", false, null)
+        List<SessionSummary> sessions = List.of(
+                createSummary(0L, "GLOBAL", false, null),
+                createSummary(1L, "team-alpha", true, "Kopitiam"),
+                createSummary(2L, "team-beta", false, null)
         );
-        when(sessionService.getSessions()).thenReturn(sessions);
+        when(sessionService.getSessions(null, null, null, 50)).thenReturn(new SessionPage(sessions, null));
 
-        List<Session> retrievedSessions = client.get().uri("/session")
+        SessionPage retrievedSessions = client.get().uri("/session")
                 .exchange()
                 .expectStatus().isOk()
-                .expectBody(new ParameterizedTypeReference<List<Session>>() {})
+                .expectBody(SessionPage.class)
                 .returnResult()
                 .getResponseBody();
 
-        assertThat(retrievedSessions).hasSize(3);
-        assertThat(retrievedSessions.get(0).getId()).isZero();
-        assertThat(retrievedSessions.get(0).getName()).isEqualTo("GLOBAL");
-        assertThat(retrievedSessions.get(1).getName()).isEqualTo("team-alpha");
-        assertThat(retrievedSessions.get(1).isClosed()).isTrue();
-        assertThat(retrievedSessions.get(1).getSelectedRestaurant()).isEqualTo("Kopitiam");
+        assertThat(retrievedSessions).isNotNull();
+        assertThat(retrievedSessions.nextCursor()).isNull();
+        assertThat(retrievedSessions.items()).hasSize(3);
+        assertThat(retrievedSessions.items().get(0).id()).isZero();
+        assertThat(retrievedSessions.items().get(0).name()).isEqualTo("GLOBAL");
+        assertThat(retrievedSessions.items().get(1).name()).isEqualTo("team-alpha");
+        assertThat(retrievedSessions.items().get(1).closed()).isTrue();
+        assertThat(retrievedSessions.items().get(1).selectedRestaurant()).isEqualTo("Kopitiam");
     }
 
     @Test
     void getSessions_emptyList() {
-        when(sessionService.getSessions()).thenReturn(List.of());
+        when(sessionService.getSessions(null, null, null, 50)).thenReturn(new SessionPage(List.of(), null));
+
+        SessionPage retrievedSessions = client.get().uri("/session")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(SessionPage.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(retrievedSessions).isNotNull();
+        assertThat(retrievedSessions.items()).isEmpty();
+    }
+
+    @Test
+    void getSessions_cursorAndFilters_passedToService() {
+        SessionPage page = new SessionPage(List.of(createSummary(11L, "team-alpha", true, "Kopitiam")), 11L);
+        when(sessionService.getSessions(10L, true, "alice", 1)).thenReturn(page);
+
+        SessionPage retrievedSessions = client.get()
+                .uri("/session?cursor={cursor}&closed={closed}&createdBy={createdBy}&limit={limit}", 10L, true, "alice", 1)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(SessionPage.class)
+                .returnResult()
+                .getResponseBody();
+
+        verify(changeTracker).sessionsETag(10L, true, "alice", 1);
+        assertThat(retrievedSessions).isNotNull();
+        assertThat(retrievedSessions.nextCursor()).isEqualTo(11L);
+        assertThat(retrievedSessions.items()).extracting(SessionSummary::id).containsExactly(11L);
+    }
+
+    @Test
+    void getSessions_returnsETagAndRequiresRevalidation() {
+        when(sessionService.getSessions(null, null, null, 50)).thenReturn(new SessionPage(List.of(), null));
+
+        client.get().uri("/session")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, SESSIONS_ETAG)
+                .expectHeader().cacheControl(CacheControl.noCache());
+    }
+
+    @Test
+    void getSessions_matchingETag_304WithoutQuerying() {
+        client.get().uri("/session")
+                .header(HttpHeaders.IF_NONE_MATCH, SESSIONS_ETAG)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, SESSIONS_ETAG)
+                .expectBody().isEmpty();
+
+        verifyNoInteractions(sessionService);
+    }
+
+    @Test
+    void getSessions_staleETag_200() {
+        when(sessionService.getSessions(null, null, null, 50)).thenReturn(new SessionPage(List.of(), null));
+
+        client.get().uri("/session")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"7d793037a0760186574b0282f2f435e7\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, SESSIONS_ETAG);
+    }
+
+    @Test
+    void streamSessions_writesOneJsonLinePerSession() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<SessionSummary> consumer = invocation.getArgument(2);
+            consumer.accept(createSummary(1L, "team-alpha", true, "Kopitiam"));
+            consumer.accept(createSummary(2L, "team-beta", false, null));
+            return null;
+        }).when(sessionService).streamSessions(eq(false), isNull(), any());
+
+        MvcResult mvcResult = mockMvc.perform(get("/session/stream").param("closed", "false"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body.lines().toList())
+                .hasSize(2)
+                .satisfiesExactly(
+                        line -> assertThat(line).contains("\"id\":1", "\"name\":\"team-alpha\""),
+                        line -> assertThat(line).contains("\"id\":2", "\"name\":\"team-beta\""));
+    }
+
+    @Test
+    void getSessionSummary_returnsCounters() {
+        SessionSummary summary = new SessionSummary(1L, "team-alpha", false, null, 5L, 2L, 3L, "alice", null, null);
+        when(sessionService.getSessionSummary(1L)).thenReturn(summary);
 
-        List<Session> retrievedSessions = client.get().uri("/session")
+        SessionSummary retrieved = client.get().uri("/session/{sessionId}/summary", 1L)
                 .exchange()
                 .expectStatus().isOk()
-                .expectBody(new ParameterizedTypeReference<List<Session>>() {})
+                .expectBody(SessionSummary.class)
                 .returnResult()
                 .getResponseBody();
 
-        assertThat(retrievedSessions).isEmpty();
+        assertThat(retrieved).isEqualTo(summary);
+    }
+
+    @Test
+    void getSessionSummary_openSession_requiresRevalidation() {
+        SessionSummary summary = new SessionSummary(1L, "team-alpha", false, null, 5L, 2L, 3L, "alice", null, null);
+        when(sessionService.getSessionSummary(1L)).thenReturn(summary);
+
+        client.get().uri("/session/{sessionId}/summary", 1L)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, SESSION_ETAG)
+                .expectHeader().cacheControl(CacheControl.noCache());
+    }
+
+    @Test
+    void getSessionSummary_closedSession_cacheableForMaxAge() {
+        SessionSummary summary = new SessionSummary(1L, "team-alpha", true, "Kopitiam", 5L, 2L, 3L, "alice", null, null);
+        when(sessionService.getSessionSummary(1L)).thenReturn(summary);
+
+        client.get().uri("/session/{sessionId}/summary", 1L)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, SESSION_ETAG)
+                .expectHeader().cacheControl(CacheControl.maxAge(Duration.ofSeconds(60)));
+    }
+
+    @Test
+    void getSessionSummary_matchingETag_304WithoutQuerying() {
+        client.get().uri("/session/{sessionId}/summary", 1L)
+                .header(HttpHeaders.IF_NONE_MATCH, SESSION_ETAG)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        verifyNoInteractions(sessionService);
+    }
+
+    @Test
+    void getSessionSummary_unknownSession_400WithoutETag() {
+        when(changeTracker.sessionETag(9L)).thenReturn(Optional.empty());
+        when(sessionService.getSessionSummary(9L)).thenThrow(new IllegalStateException("Session not found: 9"));
+
+        client.get().uri("/session/{sessionId}/summary", 9L)
+                .header(HttpHeaders.IF_NONE_MATCH, SESSION_ETAG)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectHeader().doesNotExist(HttpHeaders.ETAG);
+    }
+
+    @Test
+    void sessionEvents_streamsPublishedEvents() throws Exception {
+        SseEmitter emitter = new SseEmitter();
+        when(eventBroadcaster.subscribe(1L)).thenReturn(emitter);
+
+        MvcResult mvcResult = mockMvc.perform(get("/session/{sessionId}/events", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        emitter.send(SseEmitter.event()
+                .name(SessionEvent.Type.SESSION_CLOSED.eventName())
+                .data(SessionEvent.sessionClosed(1L, "Kopitiam"), MediaType.APPLICATION_JSON));
+        emitter.complete();
+
+        assertThat(mvcResult.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .contains("event:session-closed")
+                .contains("\"type\":\"SESSION_CLOSED\"", "\"data\":\"Kopitiam\"");
+    }
+
+    @Test
+    void sessionEvents_unknownSession_400() {
+        when(sessionService.getSession(9L)).thenThrow(new IllegalStateException("Session not found: 9"));
+
+        client.get().uri("/session/{sessionId}/events", 9L)
+                .exchange()
+                .expectStatus().isBadRequest();
     }
 
     @Test
@@ -74,18 +288,40 @@ class SessionControllerTest {
         Session resetSession = createSession(sessionId, "team-alpha", false, null);
         when(sessionService.resetSession(sessionId)).thenReturn(resetSession);
 
-        Session retrievedSession = client.patch().uri("/session/{sessionId}/reset", sessionId)
+        SessionSummary retrievedSession = client.patch().uri("/session/{sessionId}/reset", sessionId)
                 .exchange()
                 .expectStatus().isOk()
-                .expectBody(Session.class)
+                .expectBody(SessionSummary.class)
                 .returnResult()
                 .getResponseBody();
 
         assertThat(retrievedSession).isNotNull();
-        assertThat(retrievedSession.getId()).isOne();
-        assertThat(retrievedSession.getName()).isEqualTo("team-alpha");
-        assertThat(retrievedSession.isClosed()).isFalse();
-        assertThat(retrievedSession.getSelectedRestaurant()).isNull();
+        assertThat(retrievedSession.id()).isOne();
+        assertThat(retrievedSession.name()).isEqualTo("team-alpha");
+        assertThat(retrievedSession.closed()).isFalse();
+        assertThat(retrievedSession.selectedRestaurant()).isNull();
+    }
+
+    @Test
+    void inviteUser_returnsSessionSummaryWithoutInvitees() {
+        long sessionId = 5L;
+        Session session = createSession(sessionId, "team-alpha", false, null);
+        session.addInvitedUser(new User());
+        when(sessionService.inviteUser(sessionId, "alice", List.of("bob"))).thenReturn(session);
+
+        Map<String, Object> retrievedSession = client.post().uri("/session/invite")
+                .header("X-Username", "alice")
+                .body(new InviteUserRequest(sessionId, List.of("bob")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(retrievedSession)
+                .containsEntry("id", 5)
+                .containsEntry("name", "team-alpha")
+                .doesNotContainKeys("invitedUsers", "restaurants");
     }
 
     @Test
@@ -124,7 +360,7 @@ class SessionControllerTest {
 
     @Test
     void getSessions_serviceThrows500() {
-        when(sessionService.getSessions())
+        when(sessionService.getSessions(null, null, null, 50))
                 .thenThrow(new RuntimeException("Database failure"));
 
         client.get().uri("/session")
@@ -142,6 +378,10 @@ class SessionControllerTest {
                 .expectStatus().is5xxServerError();
     }
 
+    private SessionSummary createSummary(Long id, String name, boolean closed, String selectedRestaurant) {
+        return new SessionSummary(id, name, closed, selectedRestaurant, 0L, 0L, 0L, name, null, null);
+    }
+
     private Session createSession(Long id, String name, boolean closed, String selectedRestaurant) {
         Session session = new Session();
         session.setId(id);
@@ -0,0 +1,95 @@
+package sg.gov.tech.gds_swe_challenge.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sg.gov.tech.gds_swe_challenge.config.SessionEventProperties;
+import sg.gov.tech.gds_swe_challenge.dto.SessionEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class SessionEventBroadcasterTest {
+    private SessionEventBroadcaster sut;
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @Test
+    void publish_deliversToSubscribersOfThatSessionOnly() throws Exception {
+        sut = new SessionEventBroadcaster(new SessionEventProperties(8, Duration.ofMinutes(1), Duration.ofMinutes(1)));
+        SseEmitter teamAlpha = sut.subscribe(1L, mock(SseEmitter.class));
+        SseEmitter teamBeta = sut.subscribe(2L, mock(SseEmitter.class));
+
+        sut.publish(SessionEvent.usersInvited(1L, List.of("bob")));
+
+        verify(teamAlpha, timeout(1000)).send(anySet());
+        verify(teamBeta, never()).send(anySet());
+        assertThat(sut.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void publish_slowSubscriberOverflowsBuffer_disconnected() throws Exception {
+        sut = new SessionEventBroadcaster(new SessionEventProperties(1, Duration.ofMinutes(1), Duration.ofMinutes(1)));
+        SseEmitter slow = mock(SseEmitter.class);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(slow).send(anySet());
+        sut.subscribe(1L, slow);
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                sut.publish(SessionEvent.sessionReset(1L));
+            }
+
+            verify(slow).complete();
+            assertThat(sut.getSubscriberCount()).isZero();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void heartbeat_sentToIdleSubscribers() throws Exception {
+        sut = new SessionEventBroadcaster(new SessionEventProperties(8, Duration.ofMillis(50), Duration.ofMinutes(1)));
+        SseEmitter idle = sut.subscribe(1L, mock(SseEmitter.class));
+
+        verify(idle, timeout(1000)).send(anySet());
+    }
+
+    @Test
+    void heartbeat_notSentToSubscribersReceivingEvents() throws Exception {
+        sut = new SessionEventBroadcaster(new SessionEventProperties(8, Duration.ofMillis(200), Duration.ofMinutes(1)));
+        SseEmitter active = mock(SseEmitter.class);
+        List<Object> sent = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            Set<DataWithMediaType> message = invocation.getArgument(0);
+            message.forEach(part -> sent.add(part.getData()));
+            return null;
+        }).when(active).send(anySet());
+        sut.subscribe(1L, active);
+
+        for (int i = 0; i < 12; i++) {
+            sut.publish(SessionEvent.sessionReset(1L));
+            Thread.sleep(50);
+        }
+
+        assertThat(sent).isNotEmpty().noneMatch(data -> data.toString().contains("heartbeat"));
+    }
+}
@@ -1,18 +1,29 @@
 package sg.gov.tech.gds_swe_challenge.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.client.RestTestClient;
+import sg.gov.tech.gds_swe_challenge.config.MetricsTestConfig;
 import sg.gov.tech.gds_swe_challenge.controller.RestaurantController;
 import sg.gov.tech.gds_swe_challenge.dto.SubmitRestaurantRequest;
 import sg.gov.tech.gds_swe_challenge.service.RestaurantService;
 
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -22,9 +33,13 @@ import static org.mockito.Mockito.doThrow;
  * Use RestaurantController as base to test the exceptions caught by the global exception handler
  */
 @WebMvcTest({RestaurantController.class, GlobalExceptionHandler.class})
+@Import(MetricsTestConfig.class)
+@ExtendWith(OutputCaptureExtension.class)
 class GlobalExceptionHandlerTest {
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
     @MockitoBean
     private RestaurantService restaurantService;
 
@@ -79,6 +94,11 @@ class GlobalExceptionHandlerTest {
                     assertThat(apiError.details()).isEmpty();
                     assertThat(apiError.path()).contains("/restaurant/submit");
                 });
+
+        assertThat(meterRegistry.get(GlobalExceptionHandler.REJECTION_METRIC)
+                .tags("reason", "business_rule", "exception", "IllegalArgumentException")
+                .counter()
+                .count()).isEqualTo(1.0);
     }
 
     @Test
@@ -101,6 +121,60 @@ class GlobalExceptionHandlerTest {
                 });
     }
 
+    @Test
+    void handleRateLimitExceeded_tooManyRequestsWithRetryAfter() {
+        doThrow(new RateLimitExceededException("POST /restaurant/submit", Duration.ofMillis(1500)))
+                .when(restaurantService).addRestaurant(any(SubmitRestaurantRequest.class), anyString());
+
+        client.post()
+                .uri("/restaurant/submit")
+                .header("X-Username", "Test User")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new SubmitRestaurantRequest("Kopitiam"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "2")
+                .expectBody(ApiError.class)
+                .value(apiError -> {
+                    assertThat(apiError).isNotNull();
+                    assertThat(apiError.error()).isEqualTo("Too Many Requests");
+                    assertThat(apiError.message()).isEqualTo("Rate limit exceeded for POST /restaurant/submit");
+                    assertThat(apiError.status()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                });
+
+        assertThat(meterRegistry.get(GlobalExceptionHandler.REJECTION_METRIC)
+                .tag("reason", "rate_limited")
+                .counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void handleSubmissionTimeout_serviceUnavailableWithRetryAfter() {
+        doThrow(new SubmissionTimeoutException(Duration.ofSeconds(5), new TimeoutException()))
+                .when(restaurantService).addRestaurant(any(SubmitRestaurantRequest.class), anyString());
+
+        client.post()
+                .uri("/restaurant/submit")
+                .header("X-Username", "Test User")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new SubmitRestaurantRequest("Kopitiam"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "5")
+                .expectBody(ApiError.class)
+                .value(apiError -> {
+                    assertThat(apiError).isNotNull();
+                    assertThat(apiError.error()).isEqualTo("Service Unavailable");
+                    assertThat(apiError.message()).isEqualTo("Timed out waiting for restaurant submission to be persisted");
+                    assertThat(apiError.status()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                });
+
+        assertThat(meterRegistry.get(GlobalExceptionHandler.REJECTION_METRIC)
+                .tag("reason", "submission_timeout")
+                .counter()
+                .count()).isEqualTo(1.0);
+    }
+
     @Test
     void handleBusinessLogicExceptions_EmptyHeader() {
         client.post()
@@ -115,6 +189,59 @@ class GlobalExceptionHandlerTest {
                     assertThat(apiError.error()).isEqualTo("Missing Header");
                     assertThat(apiError.message()).contains("Required header 'X-Username' is missing");
                 });
+
+        assertThat(meterRegistry.get(GlobalExceptionHandler.REJECTION_METRIC)
+                .tag("reason", "missing_header")
+                .counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void handleOptimisticLockingFailure_Conflict() {
+        doThrow(new OptimisticLockingFailureException("Row was updated by another transaction")).when(restaurantService)
+                .addRestaurant(any(SubmitRestaurantRequest.class), anyString());
+
+        client.post()
+                .uri("/restaurant/submit")
+                .header("X-Username", "Test User")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new SubmitRestaurantRequest("Jollibee"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody(ApiError.class)
+                .value(apiError -> {
+                    assertThat(apiError).isNotNull();
+                    assertThat(apiError.error()).isEqualTo("Concurrent Update");
+                    assertThat(apiError.status()).isEqualTo(HttpStatus.CONFLICT);
+                });
+
+        assertThat(meterRegistry.get(GlobalExceptionHandler.REJECTION_METRIC)
+                .tag("reason", "conflict")
+                .counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void handleDataCorruption_InternalServerErrorNotCountedAsRejection(CapturedOutput output) {
+        doThrow(new DataCorruptionException("Draw ticket 0 of session 1 has no restaurant"))
+                .when(restaurantService).getRandomRestaurant(1L, "Test User");
+
+        client.get()
+                .uri("/restaurant/random?sessionId=1")
+                .header("X-Username", "Test User")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR)
+                .expectBody(ApiError.class)
+                .value(apiError -> {
+                    assertThat(apiError).isNotNull();
+                    assertThat(apiError.error()).isEqualTo("Internal Server Error");
+                    assertThat(apiError.message()).isEqualTo("An unexpected error occurred");
+                });
+
+        assertThat(meterRegistry.find(GlobalExceptionHandler.REJECTION_METRIC)
+                .tag("exception", "DataCorruptionException")
+                .counter()).isNull();
+        assertThat(output).contains("ERROR", "Data corruption detected: Draw ticket 0 of session 1 has no restaurant");
     }
 
     @Test
@@ -0,0 +1,88 @@
+package sg.gov.tech.gds_swe_challenge.repository;
+
+import liquibase.Scope;
+import liquibase.command.CommandScope;
+import liquibase.command.core.UpdateCommandStep;
+import liquibase.command.core.UpdateCountCommandStep;
+import liquibase.command.core.helpers.DbUrlConnectionArgumentsCommandStep;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Applies the changelog to a database that already holds restaurants from before the draw tickets, the way an
+ * existing deployment is upgraded, and checks that the backfilled tickets are dense.
+ */
+class ChangelogBackfillTest {
+    private static final String CHANGELOG = "db/changelog/db.changelog-master.yaml";
+    // changesets of 001-initial-schema and 002-insert-global-session
+    private static final int CHANGESETS_BEFORE_TICKETS = 5;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private Database database;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:changelog-backfill", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        database = DatabaseFactory.getInstance()
+                .findCorrectDatabaseImplementation(new JdbcConnection(dataSource.getConnection()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Test
+    void update_existingRestaurants_ticketsDenseAndCounted() throws Exception {
+        update(new CommandScope(UpdateCountCommandStep.COMMAND_NAME)
+                .addArgumentValue(UpdateCountCommandStep.COUNT_ARG, CHANGESETS_BEFORE_TICKETS));
+        jdbcTemplate.update("INSERT INTO app_user (username, created_by) VALUES ('alice', 'SYSTEM')");
+        jdbcTemplate.update("INSERT INTO session (id, name, created_by) VALUES (1, 'team-alpha', 'alice')");
+        jdbcTemplate.update("""
+                INSERT INTO restaurant (id, name, session_id, created_by) VALUES
+                (1, 'Kopitiam', 1, 'alice'), (2, 'Ya Kun', 0, 'alice'), (3, 'KFC', 1, 'alice'), (4, ' kopitiam ', 1, 'alice')
+                """);
+
+        update(new CommandScope(UpdateCommandStep.COMMAND_NAME));
+
+        assertThat(jdbcTemplate.queryForList("SELECT id, restaurant_count FROM session ORDER BY id"))
+                .containsExactly(Map.of("ID", 0L, "RESTAURANT_COUNT", 1L), Map.of("ID", 1L, "RESTAURANT_COUNT", 3L));
+        assertThat(tickets(0)).containsExactly(Map.of("TICKET", 0L, "RESTAURANT_ID", 2L));
+        // the repeated Kopitiam was merged into the first one and kept its ticket
+        assertThat(tickets(1)).containsExactly(
+                Map.of("TICKET", 0L, "RESTAURANT_ID", 1L),
+                Map.of("TICKET", 1L, "RESTAURANT_ID", 3L),
+                Map.of("TICKET", 2L, "RESTAURANT_ID", 1L));
+    }
+
+    private List<Map<String, Object>> tickets(long sessionId) {
+        return jdbcTemplate.queryForList("""
+                SELECT session_ordinal AS ticket, id AS restaurant_id FROM restaurant WHERE session_id = ?
+                UNION ALL
+                SELECT ticket, restaurant_id FROM restaurant_ticket WHERE session_id = ?
+                ORDER BY ticket
+                """, sessionId, sessionId);
+    }
+
+    private void update(CommandScope command) throws Exception {
+        Scope.child(Scope.Attr.resourceAccessor.name(), new ClassLoaderResourceAccessor(), () -> command
+                .addArgumentValue(DbUrlConnectionArgumentsCommandStep.DATABASE_ARG, database)
+                .addArgumentValue(UpdateCommandStep.CHANGELOG_FILE_ARG, CHANGELOG)
+                .execute());
+    }
+}
@@ -0,0 +1,163 @@
+package sg.gov.tech.gds_swe_challenge.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sg.gov.tech.gds_swe_challenge.config.TestConfig;
+import sg.gov.tech.gds_swe_challenge.dto.SessionSummary;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the H2 query plans of the hot predicates, which mark full scans as {@code tableScan}. The explained SQL is
+ * the SQL Hibernate sends for the repository methods, captured by {@link SqlCapture}. Its parameters stay unbound,
+ * since a plain {@code EXPLAIN} only plans the statement.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "sg.gov.tech.gds_swe_challenge.repository.QueryPlanTest$SqlCapture")
+@Import(TestConfig.class)
+class QueryPlanTest {
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void restaurantDraw_usesTicketIndexes() {
+        assertThat(explain(() -> restaurantRepository.findByTicket(1L, 0L)))
+                .containsIgnoringCase("uq_restaurant_session_ordinal")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void restaurantDeduplication_usesNormalizedNameIndex() {
+        assertThat(explain(() -> restaurantRepository.findBySessionIdAndNormalizedNameIn(1L, List.of("kopitiam", "kfc"))))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void openSessionLookup_usesIndex() {
+        assertThat(explain(() -> sessionRepository.findByIdAndIsClosedFalse(1L)))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void sessionCounterAndClose_usePrimaryKey() {
+        assertThat(explain(() -> sessionRepository.incrementRestaurantCount(1L, 1L)))
+                .doesNotContain("tableScan");
+        assertThat(explain(() -> sessionRepository.closeIfOpen(1L, "Kopitiam")))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void inviteMembershipCheck_usesIndex() {
+        assertThat(explain(() -> sessionRepository.existsInvitedUser(1L, "alice")))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void sessionSummaries_filtered_useIndexes() {
+        Pageable page = Pageable.ofSize(20);
+
+        assertThat(explain(() -> sessionRepository.findSummaries(1L, null, null, page)))
+                .doesNotContain("tableScan");
+        assertThat(explain(() -> sessionRepository.findSummaries(null, false, null, page)))
+                .doesNotContain("tableScan");
+        assertThat(explain(() -> sessionRepository.findSummaries(1L, false, null, page)))
+                .doesNotContain("tableScan");
+        assertThat(explain(() -> sessionRepository.findSummaries(null, null, "alice", page)))
+                .doesNotContain("tableScan");
+        assertThat(explain(() -> sessionRepository.findSummaries(1L, true, "alice", page)))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void sessionSummaryStream_filtered_usesIndexes() {
+        assertThat(explain(() -> consume(sessionRepository.streamSummaries(false, null))))
+                .doesNotContain("tableScan");
+        assertThat(explain(() -> consume(sessionRepository.streamSummaries(null, "alice"))))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void sessionETagReads_useIndexes() {
+        // The SQL SessionChangeTracker sends through JDBC, with its parameters inlined
+        assertThat(explainSql("SELECT version, restaurant_count FROM session WHERE id = 1"))
+                .doesNotContain("tableScan");
+        assertThat(explainSql("SELECT id, version, restaurant_count FROM session WHERE is_closed = FALSE ORDER BY id LIMIT 51"))
+                .doesNotContain("tableScan");
+        assertThat(explainSql("SELECT id, version, restaurant_count FROM session WHERE created_by = 'alice' ORDER BY id LIMIT 51"))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void restaurantsByCreator_useIndex() {
+        // No repository query filters restaurants by creator; the index serves audit lookups
+        assertThat(explainSql("SELECT id FROM restaurant WHERE created_by = 'alice'"))
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void secondaryIndexes_created() {
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT LOWER(index_name) FROM information_schema.indexes WHERE LOWER(index_name) LIKE 'idx_%'",
+                String.class))
+                .contains("idx_session_closed_id", "idx_session_created_by",
+                        "idx_restaurant_created_by", "idx_session_invited_users_user", "idx_restaurant_ticket_restaurant");
+    }
+
+    /**
+     * Runs the repository call and explains the single statement Hibernate sent for it
+     */
+    private String explain(Runnable repositoryCall) {
+        SqlCapture.STATEMENTS.clear();
+        repositoryCall.run();
+        assertThat(SqlCapture.STATEMENTS).hasSize(1);
+        return explainSql(SqlCapture.STATEMENTS.getFirst());
+    }
+
+    private String explainSql(String sql) {
+        return jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                        (resultSet, rowNum) -> resultSet.getString(1))
+                .getFirst();
+    }
+
+    private static void consume(Stream<SessionSummary> summaries) {
+        try (summaries) {
+            summaries.forEach(summary -> {
+            });
+        }
+    }
+
+    /**
+     * Records every SQL statement Hibernate prepares, unchanged
+     */
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
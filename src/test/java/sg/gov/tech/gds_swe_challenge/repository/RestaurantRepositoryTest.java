@@ -11,6 +11,8 @@ import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
 import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
 import sg.gov.tech.gds_swe_challenge.entity.Session;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -57,6 +59,54 @@ class RestaurantRepositoryTest {
         assertThat(found.getCreatedBy()).isEqualTo(AppConstants.SYSTEM);
     }
 
+    @Test
+    void shouldFindByTicket_firstAndRepeatedSubmissions() {
+        Restaurant kopitiam = createTestRestaurant("Kopitiam", 0);
+        createTestRestaurant("Din Tai Fung", 1);
+        restaurantRepository.insertTicket(testSession.getId(), 2, kopitiam.getId());
+
+        assertThat(restaurantRepository.findByTicket(testSession.getId(), 1))
+                .map(Restaurant::getName)
+                .contains("Din Tai Fung");
+        assertThat(restaurantRepository.findByTicket(testSession.getId(), 2))
+                .map(Restaurant::getName)
+                .contains("Kopitiam");
+        assertThat(restaurantRepository.findByTicket(testSession.getId(), 3)).isEmpty();
+    }
+
+    @Test
+    void shouldFindBySessionIdAndNormalizedNameIn() {
+        createTestRestaurant("Kopitiam", 0);
+        createTestRestaurant("Din Tai Fung", 1);
+
+        assertThat(restaurantRepository.findBySessionIdAndNormalizedNameIn(
+                testSession.getId(), List.of(Restaurant.normalize("  KOPITIAM "), "kfc")))
+                .extracting(Restaurant::getName)
+                .containsExactly("Kopitiam");
+    }
+
+    @Test
+    void shouldNormalizeName() {
+        Restaurant restaurant = createTestRestaurant("  Din   Tai Fung ");
+
+        assertThat(restaurant.getNormalizedName()).isEqualTo("din tai fung");
+        assertThat(restaurant.getSubmissionCount()).isOne();
+    }
+
+    @Test
+    void normalize_matchesChangelogBackfill() {
+        // Expression of the normalized_name backfill in changelog 008
+        String backfill = "SELECT LOWER(REGEXP_REPLACE(REGEXP_REPLACE(?1, '^\\s+|\\s+$', ''), '\\s+', ' '))";
+
+        for (String name : List.of("Kopitiam", "  Din   Tai\tFung \n", "\u00A0Ya Kun\u2003", "\u00C0LA CARTE")) {
+            Object normalized = entityManager.getEntityManager().createNativeQuery(backfill)
+                    .setParameter(1, name)
+                    .getSingleResult();
+
+            assertThat(Restaurant.normalize(name)).as(name).isEqualTo(normalized);
+        }
+    }
+
     @Test
     void shouldDeleteRestaurant() {
         Restaurant restaurant = createTestRestaurant("Burger King");
@@ -69,9 +119,14 @@ class RestaurantRepositoryTest {
     }
 
     private Restaurant createTestRestaurant(String name) {
+        return createTestRestaurant(name, 0);
+    }
+
+    private Restaurant createTestRestaurant(String name, long sessionOrdinal) {
         Restaurant restaurant = new Restaurant();
         restaurant.setName(name);
         restaurant.setSession(testSession);
+        restaurant.setSessionOrdinal(sessionOrdinal);
         return entityManager.persistAndFlush(restaurant);
     }
 }
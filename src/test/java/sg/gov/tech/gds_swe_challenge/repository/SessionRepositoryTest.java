@@ -6,10 +6,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import sg.gov.tech.gds_swe_challenge.config.TestConfig;
+import sg.gov.tech.gds_swe_challenge.dto.SessionSummary;
 import sg.gov.tech.gds_swe_challenge.entity.Session;
+import sg.gov.tech.gds_swe_challenge.entity.User;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -107,6 +112,104 @@ class SessionRepositoryTest {
         assertThat(sessionRepository.findById(openSessionId)).isEmpty();
     }
 
+    @Test
+    void existsInvitedUser_invitedAndUninvitedUsers() {
+        User bob = new User();
+        bob.setUsername("bob");
+        entityManager.persist(bob);
+        User carol = new User();
+        carol.setUsername("carol");
+        entityManager.persist(carol);
+        openSession.addInvitedUser(bob);
+        entityManager.persistAndFlush(openSession);
+
+        assertThat(sessionRepository.existsInvitedUser(openSession.getId(), "bob")).isTrue();
+        assertThat(sessionRepository.existsInvitedUser(openSession.getId(), "carol")).isFalse();
+        assertThat(sessionRepository.existsInvitedUser(closedSession.getId(), "bob")).isFalse();
+    }
+
+    @Test
+    void insertSubmitterIfAbsent_countsEachSubmitterOnce() {
+        long sessionId = openSession.getId();
+
+        assertThat(sessionRepository.insertSubmitterIfAbsent(sessionId, "alice")).isOne();
+        assertThat(sessionRepository.insertSubmitterIfAbsent(sessionId, "alice")).isZero();
+        assertThat(sessionRepository.insertSubmitterIfAbsent(closedSession.getId(), "alice")).isOne();
+    }
+
+    @Test
+    void findSummaryById_returnsMaintainedCounters() {
+        User bob = new User();
+        bob.setUsername("bob");
+        entityManager.persist(bob);
+        openSession.addInvitedUser(bob);
+        openSession.addInvitedUser(bob);
+        entityManager.persistAndFlush(openSession);
+        sessionRepository.incrementRestaurantCount(openSession.getId(), 3);
+        sessionRepository.incrementSubmitterCount(openSession.getId(), 2);
+
+        Optional<SessionSummary> summary = sessionRepository.findSummaryById(openSession.getId());
+
+        assertThat(summary).hasValueSatisfying(found -> {
+            assertThat(found.name()).isEqualTo("open-session-1");
+            assertThat(found.restaurantCount()).isEqualTo(3);
+            assertThat(found.submitterCount()).isEqualTo(2);
+            assertThat(found.inviteeCount()).isOne();
+        });
+        assertThat(sessionRepository.findSummaryById(999L)).isEmpty();
+    }
+
+    @Test
+    void incrementRestaurantCount_closedSession_updatesNothing() {
+        assertThat(sessionRepository.incrementRestaurantCount(closedSession.getId(), 1)).isZero();
+        assertThat(sessionRepository.incrementRestaurantCount(openSession.getId(), 1)).isOne();
+    }
+
+    @Test
+    void findSummaries_afterCursor_returnsNextSessionsInIdOrder() {
+        List<SessionSummary> summaries = sessionRepository.findSummaries(
+                openSession.getId(), null, null, PageRequest.ofSize(10));
+
+        assertThat(summaries).extracting(SessionSummary::id).containsExactly(closedSession.getId());
+        assertThat(summaries.getFirst().name()).isEqualTo("closed-session-1");
+        assertThat(summaries.getFirst().closed()).isTrue();
+    }
+
+    @Test
+    void findSummaries_filters_returnsMatchingSessionsOnly() {
+        List<SessionSummary> closedSummaries = sessionRepository.findSummaries(
+                null, true, null, PageRequest.ofSize(10));
+        List<SessionSummary> unknownCreatorSummaries = sessionRepository.findSummaries(
+                null, null, "nobody", PageRequest.ofSize(10));
+
+        assertThat(closedSummaries).extracting(SessionSummary::name).containsExactly("closed-session-1");
+        assertThat(unknownCreatorSummaries).isEmpty();
+    }
+
+    @Test
+    void findSummaries_allFilters_combinesThem() {
+        List<SessionSummary> summaries = sessionRepository.findSummaries(
+                openSession.getId() - 1, false, openSession.getCreatedBy(), PageRequest.ofSize(10));
+
+        assertThat(summaries).extracting(SessionSummary::id).containsExactly(openSession.getId());
+    }
+
+    @Test
+    void findSummaries_pageSize_limitsResults() {
+        List<SessionSummary> summaries = sessionRepository.findSummaries(
+                null, null, null, PageRequest.ofSize(1));
+
+        assertThat(summaries).hasSize(1);
+    }
+
+    @Test
+    void streamSummaries_filters_streamsMatchingSessions() {
+        try (Stream<SessionSummary> summaries = sessionRepository.streamSummaries(false, null)) {
+            assertThat(summaries.map(SessionSummary::name)).contains("open-session-1")
+                    .doesNotContain("closed-session-1");
+        }
+    }
+
     @Test
     void findByIdAndIsClosedFalse_nonExistentId_returnsEmpty() {
         Optional<Session> found = sessionRepository.findByIdAndIsClosedFalse(999L);
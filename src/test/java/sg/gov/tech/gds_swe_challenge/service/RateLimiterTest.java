@@ -0,0 +1,147 @@
+package sg.gov.tech.gds_swe_challenge.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import sg.gov.tech.gds_swe_challenge.config.RateLimitProperties;
+import sg.gov.tech.gds_swe_challenge.config.RateLimitProperties.Limit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+    private static final String SUBMIT = "POST /restaurant/submit";
+    private static final String SESSIONS = "GET /session";
+    private static final int MAX_CLIENTS = 100;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimiter sut;
+
+    @BeforeEach
+    void setup() {
+        RateLimitProperties properties = new RateLimitProperties(true, new Limit(20, 40),
+                Map.of(SUBMIT, new Limit(2, 3)), Duration.ofMinutes(1), MAX_CLIENTS);
+        sut = new RateLimiter(properties, meterRegistry, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @Test
+    void tryAcquire_burstUpToCapacity_thenRejectedUntilRefill() {
+        assertThat(sut.tryAcquire(SUBMIT, "alice")).isZero();
+        assertThat(sut.tryAcquire(SUBMIT, "alice")).isZero();
+        assertThat(sut.tryAcquire(SUBMIT, "alice")).isZero();
+
+        assertThat(sut.tryAcquire(SUBMIT, "alice")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(sut.tryAcquire(SUBMIT, "alice")).isZero();
+        assertThat(sut.tryAcquire(SUBMIT, "alice")).isPositive();
+    }
+
+    @Test
+    void tryAcquire_bucketsArePerClientAndEndpoint() {
+        for (int i = 0; i < 3; i++) {
+            sut.tryAcquire(SUBMIT, "alice");
+        }
+
+        assertThat(sut.tryAcquire(SUBMIT, "alice")).isPositive();
+        assertThat(sut.tryAcquire(SUBMIT, "bob")).isZero();
+        assertThat(sut.tryAcquire(SESSIONS, "alice")).isZero();
+    }
+
+    @Test
+    void tryAcquire_floodOfDistinctClients_bucketsCapped() {
+        for (int i = 0; i < 10_000; i++) {
+            sut.tryAcquire(SUBMIT, "user-" + i);
+        }
+
+        assertThat(sut.getBucketCount()).isEqualTo(MAX_CLIENTS);
+        // Clients beyond the cap share one bucket, so the flood drained it, while earlier clients keep their own
+        assertThat(sut.tryAcquire(SUBMIT, "user-10000")).isPositive();
+        assertThat(sut.tryAcquire(SUBMIT, "user-0")).isZero();
+    }
+
+    @Test
+    void tryAcquire_endpointWithoutOwnLimit_usesDefaultLimit() {
+        for (int i = 0; i < 40; i++) {
+            assertThat(sut.tryAcquire(SESSIONS, "alice")).isZero();
+        }
+
+        assertThat(sut.tryAcquire(SESSIONS, "alice")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void tryAcquire_countsDecisionsPerEndpoint() {
+        for (int i = 0; i < 5; i++) {
+            sut.tryAcquire(SUBMIT, "alice");
+        }
+
+        assertThat(meterRegistry.get(RateLimiter.DECISION_METRIC)
+                .tags("endpoint", SUBMIT, "outcome", "allowed")
+                .counter()
+                .count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get(RateLimiter.DECISION_METRIC)
+                .tags("endpoint", SUBMIT, "outcome", "rejected")
+                .counter()
+                .count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void tryAcquire_concurrentClients_neverExceedCapacity() throws Exception {
+        int callers = 64;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < callers; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    if (sut.tryAcquire(SUBMIT, "alice") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertThat(allowed).hasValue(3);
+    }
+
+    @Test
+    void bucketGauge_registeredOnInjectedRegistry() {
+        sut.tryAcquire(SUBMIT, "alice");
+        sut.tryAcquire(SESSIONS, "alice");
+
+        assertThat(meterRegistry.get(RateLimiter.BUCKET_METRIC).gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void sweep_dropsOnlyRefilledBuckets() {
+        sut.tryAcquire(SUBMIT, "alice");
+        for (int i = 0; i < 3; i++) {
+            sut.tryAcquire(SUBMIT, "bob");
+        }
+        assertThat(sut.getBucketCount()).isEqualTo(2);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        sut.sweep();
+
+        assertThat(sut.getBucketCount()).isEqualTo(1);
+        assertThat(sut.tryAcquire(SUBMIT, "bob")).isZero();
+        assertThat(sut.tryAcquire(SUBMIT, "bob")).isPositive();
+    }
+}
@@ -0,0 +1,221 @@
+package sg.gov.tech.gds_swe_challenge.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import sg.gov.tech.gds_swe_challenge.config.AuditorContext;
+import sg.gov.tech.gds_swe_challenge.config.TestConfig;
+import sg.gov.tech.gds_swe_challenge.dto.SubmitRestaurantRequest;
+import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
+import sg.gov.tech.gds_swe_challenge.entity.Session;
+import sg.gov.tech.gds_swe_challenge.repository.RestaurantRepository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestConfig.class)
+class RestaurantServiceIntegrationTest {
+    @Autowired
+    private RestaurantService restaurantService;
+    @Autowired
+    private SessionService sessionService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getRandomRestaurant_usesOneReadOneDrawAndOneConditionalClose() {
+        long sessionId = createSessionWithRestaurant("team-statements", "Kopitiam");
+        statistics.clear();
+
+        Restaurant restaurant = restaurantService.getRandomRestaurant(sessionId, "alice");
+
+        assertThat(restaurant.getName()).isEqualTo("Kopitiam");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(sessionService.getSession(sessionId).getSelectedRestaurant()).isEqualTo("Kopitiam");
+    }
+
+    @Test
+    void getRandomRestaurant_concurrentCalls_closeSessionOnlyOnce() throws InterruptedException {
+        long sessionId = createSessionWithRestaurant("team-race", "Din Tai Fung");
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<Restaurant> draw = () -> {
+            start.await();
+            return restaurantService.getRandomRestaurant(sessionId, "alice");
+        };
+
+        List<Future<Restaurant>> results;
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            results = IntStream.range(0, callers).mapToObj(i -> executor.submit(draw)).toList();
+            start.countDown();
+        }
+
+        long winners = results.stream().filter(this::succeeded).count();
+        assertThat(winners).isOne();
+        assertThat(sessionService.getSession(sessionId).isClosed()).isTrue();
+    }
+
+    @Test
+    void addRestaurant_repeatedNames_storedOnceAndWeightedByTickets() {
+        long sessionId = createSessionWithRestaurant("team-dedup", "Kopitiam");
+        restaurantService.addRestaurant(new SubmitRestaurantRequest("kopitiam ", sessionId, "team-dedup"), "alice");
+        restaurantService.addRestaurant(new SubmitRestaurantRequest("KFC", sessionId, "team-dedup"), "alice");
+        Restaurant repeated = restaurantService.addRestaurant(
+                new SubmitRestaurantRequest("KOPITIAM", sessionId, "team-dedup"), "alice");
+
+        assertThat(repeated.getSubmissionCount()).isEqualTo(3);
+        assertThat(restaurantRepository.findBySessionIdAndNormalizedNameIn(sessionId, List.of("kopitiam", "kfc")))
+                .extracting(Restaurant::getName, Restaurant::getSubmissionCount)
+                .containsExactlyInAnyOrder(tuple("Kopitiam", 3L), tuple("KFC", 1L));
+        assertThat(LongStream.range(0, 4)
+                .mapToObj(ticket -> restaurantRepository.findByTicket(sessionId, ticket).orElseThrow().getName())
+                .toList())
+                .containsExactlyInAnyOrder("Kopitiam", "Kopitiam", "Kopitiam", "KFC");
+    }
+
+    @Test
+    void drawRestaurant_drawsTicketsFromDatabaseWeightedBySubmissions() {
+        long sessionId = createSessionWithRestaurant("team-distribution", "Kopitiam");
+        restaurantService.addRestaurant(new SubmitRestaurantRequest("KFC", sessionId, "team-distribution"), "alice");
+        restaurantService.addRestaurant(new SubmitRestaurantRequest("kfc", sessionId, "team-distribution"), "alice");
+        restaurantService.addRestaurant(new SubmitRestaurantRequest("Tim Ho Wan", sessionId, "team-distribution"), "alice");
+        Session session = sessionService.getSession(sessionId);
+        int draws = 8_000;
+
+        Map<String, Long> hits = new LinkedHashMap<>();
+        for (int i = 0; i < draws; i++) {
+            hits.merge(restaurantService.drawRestaurant(session).orElseThrow().getName(), 1L, Long::sum);
+        }
+
+        Map<String, Double> expected = Map.of("Kopitiam", draws / 4.0, "KFC", draws / 2.0, "Tim Ho Wan", draws / 4.0);
+        assertThat(hits).containsOnlyKeys(expected.keySet());
+        double chiSquare = expected.entrySet().stream()
+                .mapToDouble(e -> Math.pow(hits.get(e.getKey()) - e.getValue(), 2) / e.getValue())
+                .sum();
+        // Critical chi-square value for 2 degrees of freedom at p = 0.001
+        assertThat(chiSquare).isLessThan(13.816);
+    }
+
+    @Test
+    void getRandomRestaurant_heavyContention_exactlyOneWinnerPerSession() throws InterruptedException {
+        Map<Long, Long> initialVersions = new LinkedHashMap<>();
+        for (int i = 0; i < 4; i++) {
+            long sessionId = createSessionWithRestaurant("team-contention-" + i, "Hawker " + i);
+            initialVersions.put(sessionId, sessionService.getSession(sessionId).getVersion());
+        }
+        int callersPerSession = 16;
+        CountDownLatch start = new CountDownLatch(1);
+
+        Map<Long, List<Future<Restaurant>>> results = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(initialVersions.size() * callersPerSession)) {
+            for (long sessionId : initialVersions.keySet()) {
+                Callable<Restaurant> draw = () -> {
+                    start.await();
+                    return restaurantService.getRandomRestaurant(sessionId, "alice");
+                };
+                results.put(sessionId, IntStream.range(0, callersPerSession)
+                        .mapToObj(i -> executor.submit(draw))
+                        .toList());
+            }
+            start.countDown();
+        }
+
+        results.forEach((sessionId, draws) -> {
+            assertThat(draws.stream().filter(this::succeeded).count()).isOne();
+            Session session = sessionService.getSession(sessionId);
+            assertThat(session.isClosed()).isTrue();
+            assertThat(session.getVersion()).isEqualTo(initialVersions.get(sessionId) + 1);
+        });
+    }
+
+    @Test
+    void getRandomRestaurant_sessionReadByOpenTransaction_isNotBlocked() throws Exception {
+        long sessionId = createSessionWithRestaurant("team-no-lock", "Tim Ho Wan");
+        TransactionStatus reader = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            sessionService.getSession(sessionId);
+
+            Future<Restaurant> draw = executor.submit(() -> restaurantService.getRandomRestaurant(sessionId, "alice"));
+
+            assertThat(draw.get(5, TimeUnit.SECONDS).getName()).isEqualTo("Tim Ho Wan");
+        } finally {
+            transactionManager.rollback(reader);
+        }
+    }
+
+    @Test
+    void getRandomRestaurant_submissionInFlight_closeWaitsForSessionRowLock() throws Exception {
+        long sessionId = createSessionWithRestaurant("team-submit-lock", "Jumbo");
+        TransactionStatus submission = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            // Holds the session row lock like a submission does until it commits
+            sessionService.reserveRestaurantOrdinals(sessionId, 1);
+
+            Future<Restaurant> draw = executor.submit(() -> restaurantService.getRandomRestaurant(sessionId, "alice"));
+
+            assertThatThrownBy(() -> draw.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+            transactionManager.rollback(submission);
+            assertThat(draw.get(5, TimeUnit.SECONDS).getName()).isEqualTo("Jumbo");
+        } finally {
+            if (!submission.isCompleted()) {
+                transactionManager.rollback(submission);
+            }
+        }
+    }
+
+    private long createSessionWithRestaurant(String sessionName, String restaurantName) {
+        AtomicReference<Restaurant> restaurant = new AtomicReference<>();
+        AuditorContext.runAs("alice", () -> restaurant.set(restaurantService.addRestaurant(
+                new SubmitRestaurantRequest(restaurantName, -1L, sessionName), "alice")));
+        return restaurant.get().getSession().getId();
+    }
+
+    private boolean succeeded(Future<Restaurant> result) {
+        try {
+            result.get();
+            return true;
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(RuntimeException.class);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
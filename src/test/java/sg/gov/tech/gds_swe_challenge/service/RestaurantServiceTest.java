@@ -10,6 +10,7 @@ import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
 import sg.gov.tech.gds_swe_challenge.dto.SubmitRestaurantRequest;
 import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
 import sg.gov.tech.gds_swe_challenge.entity.Session;
+import sg.gov.tech.gds_swe_challenge.exception.DataCorruptionException;
 import sg.gov.tech.gds_swe_challenge.repository.RestaurantRepository;
 
 import java.util.Optional;
@@ -19,7 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -31,12 +32,14 @@ class RestaurantServiceTest {
     private RestaurantRepository repository;
     @Mock
     private SessionService sessionService;
+    @Mock
+    private RestaurantSubmissionBatcher submissionBatcher;
 
     private RestaurantService sut;
 
     @BeforeEach
     void setup() {
-        sut = new RestaurantService(repository, sessionService);
+        sut = new RestaurantService(repository, sessionService, submissionBatcher);
     }
 
     @Test
@@ -52,23 +55,22 @@ class RestaurantServiceTest {
 
         sut.addRestaurant(request, "alice");
 
-        ArgumentCaptor<Restaurant> restaurantCaptor = ArgumentCaptor.forClass(Restaurant.class);
-        verify(repository).saveAndFlush(restaurantCaptor.capture());
-        Restaurant savedRestaurant = restaurantCaptor.getValue();
-        assertThat(savedRestaurant.getName()).isEqualTo("Kopitiam");
-        assertThat(savedRestaurant.getSession()).isSameAs(savedSession);
+        ArgumentCaptor<RestaurantSubmission> submissionCaptor = ArgumentCaptor.forClass(RestaurantSubmission.class);
+        verify(submissionBatcher).submit(submissionCaptor.capture());
+        RestaurantSubmission submission = submissionCaptor.getValue();
+        assertThat(submission.name()).isEqualTo("Kopitiam");
+        assertThat(submission.session()).isSameAs(savedSession);
+        assertThat(submission.username()).isEqualTo("alice");
 
         verify(sessionService).getOrCreateSession(AppConstants.GLOBAL_SESSION_ID, sessionName, "alice");
-        verify(repository).saveAndFlush(argThat(restaurant ->
-                restaurant.getName().equals("Kopitiam") &&
-                        restaurant.getSession().equals(savedSession)));
+        verify(sessionService).validateUserCanSubmit(savedSession, "alice");
     }
 
 
     @Test
     void addRestaurant_RepositoryThrowsException_ShouldPropagate() {
         String name = "KFC";
-        when(repository.saveAndFlush(any(Restaurant.class)))
+        when(submissionBatcher.submit(any(RestaurantSubmission.class)))
                 .thenThrow(new RuntimeException("Database error"));
         when(sessionService.getOrCreateSession(anyLong(), anyString(), anyString())).thenReturn(null);
 
@@ -76,7 +78,7 @@ class RestaurantServiceTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Database error");
 
-        verify(repository, times(1)).saveAndFlush(any(Restaurant.class));
+        verify(submissionBatcher, times(1)).submit(any(RestaurantSubmission.class));
     }
 
     @Test
@@ -85,34 +87,100 @@ class RestaurantServiceTest {
         Restaurant restaurant = new Restaurant();
         restaurant.setId(1L);
         restaurant.setName("Kopitiam");
-        when(repository.findRandomRestaurantBySession(1L)).thenReturn(Optional.of(restaurant));
+        when(repository.findByTicket(1L, 0L)).thenReturn(Optional.of(restaurant));
         var session = new Session();
         session.setId(sessionId);
         session.setCreatedBy("Test User");
-        when(sessionService.getOpenSession(sessionId)).thenReturn(session);
+        session.setRestaurantCount(1);
+        when(sessionService.getSession(sessionId)).thenReturn(session);
 
         Restaurant result = sut.getRandomRestaurant(sessionId, "Test User");
 
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo("Kopitiam");
-        verify(repository, times(1)).findRandomRestaurantBySession(1L);
+        verify(repository, times(1)).findByTicket(1L, 0L);
+    }
+
+    @Test
+    void getRandomRestaurant_ShouldDrawUniformlyAcrossOrdinals() {
+        long sessionId = 1L;
+        int restaurantCount = 10;
+        int draws = 50_000;
+        var session = new Session();
+        session.setId(sessionId);
+        session.setCreatedBy("Test User");
+        session.setRestaurantCount(restaurantCount);
+        when(sessionService.getSession(sessionId)).thenReturn(session);
+        long[] hits = new long[restaurantCount];
+        when(repository.findByTicket(eq(sessionId), anyLong())).thenAnswer(invocation -> {
+            long ordinal = invocation.getArgument(1);
+            hits[(int) ordinal]++;
+            Restaurant restaurant = new Restaurant();
+            restaurant.setName("Restaurant " + ordinal);
+            restaurant.setSessionOrdinal(ordinal);
+            return Optional.of(restaurant);
+        });
+
+        for (int i = 0; i < draws; i++) {
+            sut.getRandomRestaurant(sessionId, "Test User");
+        }
+
+        double expected = (double) draws / restaurantCount;
+        double chiSquare = 0;
+        for (long hit : hits) {
+            chiSquare += Math.pow(hit - expected, 2) / expected;
+        }
+        // Critical chi-square value for 9 degrees of freedom at p = 0.001
+        assertThat(chiSquare).isLessThan(27.877);
+    }
+
+    @Test
+    void getRandomRestaurant_TicketDoesNotResolve_ThrowException() {
+        long sessionId = 1L;
+        var session = new Session();
+        session.setId(sessionId);
+        session.setCreatedBy("Test User");
+        session.setRestaurantCount(1);
+        when(sessionService.getSession(sessionId)).thenReturn(session);
+        when(repository.findByTicket(sessionId, 0L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> sut.getRandomRestaurant(sessionId, "Test User"))
+                .isInstanceOf(DataCorruptionException.class)
+                .hasMessage("Draw ticket 0 of session 1 has no restaurant, tickets are no longer dense");
+
+        verify(sessionService, never()).closeSession(anyLong(), anyString());
     }
 
     @Test
     void getRandomRestaurant_NoRestaurants_ShouldReturnNull() {
         long sessionId = 1L;
-        when(repository.findRandomRestaurantBySession(sessionId)).thenReturn(Optional.empty());
         var session = new Session();
         session.setId(sessionId);
         session.setCreatedBy("Test User");
-        when(sessionService.getOpenSession(sessionId)).thenReturn(session);
+        when(sessionService.getSession(sessionId)).thenReturn(session);
 
         assertThatThrownBy(() -> sut.getRandomRestaurant(sessionId, "Test User"))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage("No restaurants available in session: 1");
 
-        verify(sessionService).isSessionClosed(sessionId);
-        verify(repository).findRandomRestaurantBySession(sessionId);
+        verify(repository, never()).findByTicket(anyLong(), anyLong());
+        verify(sessionService, never()).closeSession(anyLong(), anyString());
+    }
+
+    @Test
+    void getRandomRestaurant_ClosedSession_ThrowException() {
+        long sessionId = 1L;
+        var session = new Session();
+        session.setId(sessionId);
+        session.setCreatedBy("Test User");
+        session.setClosed(true);
+        when(sessionService.getSession(sessionId)).thenReturn(session);
+
+        assertThatThrownBy(() -> sut.getRandomRestaurant(sessionId, "Test User"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Session is already closed, a random restaurant has already been selected");
+
+        verify(repository, never()).findByTicket(anyLong(), anyLong());
         verify(sessionService, never()).closeSession(anyLong(), anyString());
     }
 
@@ -122,13 +190,12 @@ class RestaurantServiceTest {
         var session = new Session();
         session.setId(sessionId);
         session.setCreatedBy("Some other user");
-        when(sessionService.getOpenSession(sessionId)).thenReturn(session);
+        when(sessionService.getSession(sessionId)).thenReturn(session);
 
         assertThatThrownBy(() -> sut.getRandomRestaurant(sessionId, "Test User"))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage("Only the user who submitted the first restaurant may make the request: [initiator: Some other user]");
 
-        verify(sessionService).isSessionClosed(sessionId);
         verify(sessionService, never()).closeSession(anyLong(), anyString());
     }
 }
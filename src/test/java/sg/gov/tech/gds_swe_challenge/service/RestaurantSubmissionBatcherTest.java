@@ -0,0 +1,136 @@
+package sg.gov.tech.gds_swe_challenge.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sg.gov.tech.gds_swe_challenge.config.RestaurantSubmissionProperties;
+import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
+import sg.gov.tech.gds_swe_challenge.entity.Session;
+import sg.gov.tech.gds_swe_challenge.exception.SubmissionTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantSubmissionBatcherTest {
+    @Mock
+    private RestaurantSubmissionWriter writer;
+
+    private RestaurantSubmissionBatcher sut;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sut.shutdown();
+    }
+
+    @Test
+    void submit_batchingDisabled_writesDirectly() {
+        sut = new RestaurantSubmissionBatcher(writer, properties(false));
+        RestaurantSubmission submission = new RestaurantSubmission(new Session(), "Kopitiam", "alice");
+        Restaurant saved = new Restaurant();
+        saved.setId(1L);
+        when(writer.write(List.of(submission))).thenReturn(List.of(saved));
+
+        Restaurant result = sut.submit(submission);
+
+        assertThat(result).isSameAs(saved);
+        assertThat(sut.isBatchingEnabled()).isFalse();
+    }
+
+    @Test
+    void submit_batchingEnabled_groupsConcurrentSubmissions() {
+        sut = new RestaurantSubmissionBatcher(writer, properties(true));
+        AtomicLong ids = new AtomicLong();
+        when(writer.write(anyList())).thenAnswer(invocation -> {
+            // Hold the first flush long enough for the remaining submissions to queue up behind it
+            Thread.sleep(200);
+            List<RestaurantSubmission> submissions = invocation.getArgument(0);
+            return submissions.stream().map(submission -> {
+                Restaurant restaurant = new Restaurant();
+                restaurant.setId(ids.incrementAndGet());
+                restaurant.setName(submission.name());
+                return restaurant;
+            }).toList();
+        });
+
+        List<Restaurant> results;
+        try (ExecutorService executor = Executors.newFixedThreadPool(20)) {
+            List<CompletableFuture<Restaurant>> futures = IntStream.range(0, 20)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> sut.submit(
+                            new RestaurantSubmission(new Session(), "Restaurant " + i, "alice")), executor))
+                    .toList();
+            results = futures.stream().map(CompletableFuture::join).toList();
+        }
+
+        assertThat(results)
+                .extracting(Restaurant::getName)
+                .containsExactlyElementsOf(IntStream.range(0, 20).mapToObj(i -> "Restaurant " + i).toList());
+        assertThat(results).extracting(Restaurant::getId).doesNotHaveDuplicates();
+        verify(writer, atMost(10)).write(anyList());
+    }
+
+    @Test
+    void submit_batchingEnabled_propagatesWriteFailure() {
+        sut = new RestaurantSubmissionBatcher(writer, properties(true));
+        when(writer.write(anyList())).thenThrow(new IllegalStateException("Session is closed"));
+
+        assertThatThrownBy(() -> sut.submit(new RestaurantSubmission(new Session(), "KFC", "alice")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Session is closed");
+    }
+
+    @Test
+    void submit_ackTimeout_waitsForWriteInFlightAndAbandonsQueuedSubmission() throws Exception {
+        sut = new RestaurantSubmissionBatcher(writer, properties(true, Duration.ofMillis(100)));
+        RestaurantSubmission inFlight = new RestaurantSubmission(new Session(), "Kopitiam", "alice");
+        RestaurantSubmission queued = new RestaurantSubmission(new Session(), "KFC", "bob");
+        CountDownLatch writing = new CountDownLatch(1);
+        when(writer.write(List.of(inFlight))).thenAnswer(invocation -> {
+            writing.countDown();
+            // Outlast the ack timeout of both callers
+            Thread.sleep(300);
+            Restaurant restaurant = new Restaurant();
+            restaurant.setName("Kopitiam");
+            return List.of(restaurant);
+        });
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Restaurant> inFlightResult = executor.submit(() -> sut.submit(inFlight));
+            writing.await();
+
+            assertThatThrownBy(() -> sut.submit(queued))
+                    .isInstanceOf(SubmissionTimeoutException.class)
+                    .hasMessage("Timed out waiting for restaurant submission to be persisted")
+                    .extracting("retryAfter").isEqualTo(Duration.ofMillis(100));
+            assertThat(inFlightResult.get().getName()).isEqualTo("Kopitiam");
+        }
+
+        sut.shutdown();
+        verify(writer, never()).write(List.of(queued));
+    }
+
+    private RestaurantSubmissionProperties properties(boolean batchingEnabled) {
+        return properties(batchingEnabled, Duration.ofSeconds(5));
+    }
+
+    private RestaurantSubmissionProperties properties(boolean batchingEnabled, Duration ackTimeout) {
+        return new RestaurantSubmissionProperties(batchingEnabled, 50, 100, ackTimeout);
+    }
+}
@@ -0,0 +1,130 @@
+package sg.gov.tech.gds_swe_challenge.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import sg.gov.tech.gds_swe_challenge.config.AuditorContext;
+import sg.gov.tech.gds_swe_challenge.dto.SessionEvent;
+import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
+import sg.gov.tech.gds_swe_challenge.entity.Session;
+import sg.gov.tech.gds_swe_challenge.repository.RestaurantRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantSubmissionWriterTest {
+    @Mock
+    private RestaurantRepository restaurantRepository;
+    @Mock
+    private SessionService sessionService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RestaurantSubmissionWriter sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new RestaurantSubmissionWriter(restaurantRepository, sessionService, eventPublisher);
+    }
+
+    @Test
+    void write_reservesOrdinalsPerSessionAndFlushesOnce() {
+        Session teamAlpha = createSession(1L);
+        Session teamBeta = createSession(2L);
+        when(sessionService.reserveRestaurantOrdinals(1L, 2)).thenReturn(4L);
+        when(sessionService.reserveRestaurantOrdinals(2L, 1)).thenReturn(0L);
+        List<String> auditors = new ArrayList<>();
+        when(restaurantRepository.save(any(Restaurant.class))).thenAnswer(invocation -> {
+            auditors.add(AuditorContext.current().orElse(null));
+            return invocation.getArgument(0);
+        });
+
+        List<Restaurant> saved = sut.write(List.of(
+                new RestaurantSubmission(teamAlpha, "Kopitiam", "alice"),
+                new RestaurantSubmission(teamBeta, "Din Tai Fung", "bob"),
+                new RestaurantSubmission(teamAlpha, "KFC", "charlie")));
+
+        assertThat(saved)
+                .extracting(Restaurant::getName, Restaurant::getSessionOrdinal)
+                .containsExactly(
+                        tuple("Kopitiam", 4L),
+                        tuple("Din Tai Fung", 0L),
+                        tuple("KFC", 5L));
+        assertThat(auditors).containsExactly("alice", "bob", "charlie");
+        assertThat(AuditorContext.current()).isEmpty();
+
+        InOrder inOrder = inOrder(restaurantRepository);
+        inOrder.verify(restaurantRepository, times(3)).save(any(Restaurant.class));
+        inOrder.verify(restaurantRepository).flush();
+        verify(sessionService).recordSubmitters(1L, Set.of("alice", "charlie"));
+        verify(sessionService).recordSubmitters(2L, Set.of("bob"));
+        verify(eventPublisher, times(3)).publishEvent(any(SessionEvent.class));
+    }
+
+    @Test
+    void write_repeatedNameInBatch_storedOnceWithExtraTicket() {
+        Session teamAlpha = createSession(1L);
+        when(sessionService.reserveRestaurantOrdinals(1L, 3)).thenReturn(0L);
+        when(restaurantRepository.save(any(Restaurant.class))).thenAnswer(invocation -> {
+            Restaurant restaurant = invocation.getArgument(0);
+            restaurant.setId(10L + restaurant.getSessionOrdinal());
+            return restaurant;
+        });
+
+        List<Restaurant> saved = sut.write(List.of(
+                new RestaurantSubmission(teamAlpha, "Kopitiam", "alice"),
+                new RestaurantSubmission(teamAlpha, "KFC", "bob"),
+                new RestaurantSubmission(teamAlpha, "  kopitiam ", "charlie")));
+
+        assertThat(saved.get(0)).isSameAs(saved.get(2));
+        assertThat(saved)
+                .extracting(Restaurant::getName, Restaurant::getSessionOrdinal, Restaurant::getSubmissionCount)
+                .containsExactly(
+                        tuple("Kopitiam", 0L, 2L),
+                        tuple("KFC", 1L, 1L),
+                        tuple("Kopitiam", 0L, 2L));
+        verify(restaurantRepository, times(2)).save(any(Restaurant.class));
+        verify(restaurantRepository).insertTicket(1L, 2L, 10L);
+    }
+
+    @Test
+    void write_restaurantAlreadyInSession_incrementsInsteadOfInserting() {
+        Session teamAlpha = createSession(1L);
+        Restaurant existing = new Restaurant();
+        existing.setId(7L);
+        existing.setName("Kopitiam");
+        existing.setSession(teamAlpha);
+        existing.setSessionOrdinal(0L);
+        when(sessionService.reserveRestaurantOrdinals(1L, 1)).thenReturn(4L);
+        when(restaurantRepository.findBySessionIdAndNormalizedNameIn(1L, Set.of("kopitiam")))
+                .thenReturn(List.of(existing));
+
+        List<Restaurant> saved = sut.write(List.of(new RestaurantSubmission(teamAlpha, "KOPITIAM", "bob")));
+
+        assertThat(saved).containsExactly(existing);
+        assertThat(existing.getSubmissionCount()).isEqualTo(2L);
+        verify(restaurantRepository, never()).save(any(Restaurant.class));
+        verify(restaurantRepository).insertTicket(1L, 4L, 7L);
+    }
+
+    private Session createSession(long id) {
+        Session session = new Session();
+        session.setId(id);
+        return session;
+    }
+}
@@ -0,0 +1,126 @@
+package sg.gov.tech.gds_swe_challenge.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sg.gov.tech.gds_swe_challenge.config.TestConfig;
+import sg.gov.tech.gds_swe_challenge.entity.Session;
+import sg.gov.tech.gds_swe_challenge.entity.User;
+import sg.gov.tech.gds_swe_challenge.repository.SessionRepository;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TestConfig.class)
+class SessionChangeTrackerTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private SessionRepository sessionRepository;
+    @Autowired
+    private DataSource dataSource;
+
+    private SessionChangeTracker sut;
+    private Session teamAlpha;
+    private Session teamBeta;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SessionChangeTracker(new JdbcTemplate(dataSource));
+        teamAlpha = persistSession("team-alpha");
+        teamBeta = persistSession("team-beta");
+    }
+
+    @Test
+    void sessionETag_unchangedSession_stable() {
+        assertThat(sut.sessionETag(teamAlpha.getId()))
+                .hasValueSatisfying(eTag -> assertThat(eTag).startsWith("\"").endsWith("\""))
+                .isEqualTo(sut.sessionETag(teamAlpha.getId()));
+    }
+
+    @Test
+    void sessionETag_unknownSession_empty() {
+        assertThat(sut.sessionETag(Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void sessionETag_submission_changesETagOfThatSessionOnly() {
+        String teamAlphaBefore = sut.sessionETag(teamAlpha.getId()).orElseThrow();
+        String teamBetaBefore = sut.sessionETag(teamBeta.getId()).orElseThrow();
+
+        sessionRepository.incrementRestaurantCount(teamAlpha.getId(), 1);
+
+        assertThat(sut.sessionETag(teamAlpha.getId())).isNotEqualTo(teamAlphaBefore);
+        assertThat(sut.sessionETag(teamBeta.getId())).hasValue(teamBetaBefore);
+    }
+
+    @Test
+    void sessionETag_inviteCloseAndReset_neverRepeatsEarlierETag() {
+        String open = sut.sessionETag(teamAlpha.getId()).orElseThrow();
+        User bob = new User();
+        bob.setUsername("bob");
+        entityManager.persist(bob);
+        teamAlpha.addInvitedUser(bob);
+        entityManager.flush();
+        String invited = sut.sessionETag(teamAlpha.getId()).orElseThrow();
+        sessionRepository.closeIfOpen(teamAlpha.getId(), "Kopitiam");
+        String closed = sut.sessionETag(teamAlpha.getId()).orElseThrow();
+        entityManager.clear();
+        Session reopened = entityManager.find(Session.class, teamAlpha.getId());
+        reopened.reset();
+        entityManager.flush();
+
+        assertThat(invited).isNotEqualTo(open);
+        assertThat(closed).isNotIn(open, invited);
+        assertThat(sut.sessionETag(teamAlpha.getId()).orElseThrow()).isNotIn(open, invited, closed);
+    }
+
+    @Test
+    void sessionsETag_changeOnPage_changesETag() {
+        String before = sut.sessionsETag(null, null, null, 50);
+
+        sessionRepository.incrementRestaurantCount(teamBeta.getId(), 1);
+
+        assertThat(sut.sessionsETag(null, null, null, 50)).isNotEqualTo(before);
+    }
+
+    @Test
+    void sessionsETag_newSession_changesETagOfPageItEnters() {
+        String before = sut.sessionsETag(null, null, null, 50);
+
+        persistSession("team-gamma");
+
+        assertThat(sut.sessionsETag(null, null, null, 50)).isNotEqualTo(before);
+    }
+
+    @Test
+    void sessionsETag_changeOutsideFilteredPage_keepsETag() {
+        String closedSessions = sut.sessionsETag(null, true, null, 50);
+
+        sessionRepository.incrementRestaurantCount(teamBeta.getId(), 1);
+
+        assertThat(sut.sessionsETag(null, true, null, 50)).isEqualTo(closedSessions);
+    }
+
+    @Test
+    void sessionETag_sameAcrossInstances() {
+        SessionChangeTracker otherInstance = new SessionChangeTracker(new JdbcTemplate(dataSource));
+
+        sessionRepository.incrementRestaurantCount(teamAlpha.getId(), 1);
+
+        assertThat(otherInstance.sessionETag(teamAlpha.getId())).isEqualTo(sut.sessionETag(teamAlpha.getId()));
+        assertThat(otherInstance.sessionsETag(null, null, null, 50)).isEqualTo(sut.sessionsETag(null, null, null, 50));
+    }
+
+    private Session persistSession(String name) {
+        Session session = new Session();
+        session.setName(name);
+        return entityManager.persistAndFlush(session);
+    }
+}
@@ -0,0 +1,121 @@
+package sg.gov.tech.gds_swe_challenge.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import sg.gov.tech.gds_swe_challenge.config.AuditorContext;
+import sg.gov.tech.gds_swe_challenge.config.TestConfig;
+import sg.gov.tech.gds_swe_challenge.dto.SessionSummary;
+import sg.gov.tech.gds_swe_challenge.dto.SubmitRestaurantRequest;
+import sg.gov.tech.gds_swe_challenge.entity.Restaurant;
+import sg.gov.tech.gds_swe_challenge.entity.Session;
+import sg.gov.tech.gds_swe_challenge.repository.SessionRepository;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Import(TestConfig.class)
+class SessionServiceIntegrationTest {
+    @Autowired
+    private SessionService sessionService;
+    @Autowired
+    private RestaurantService restaurantService;
+    @Autowired
+    private SessionRepository sessionRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void inviteUser_concurrentInvites_retryUntilEveryInviteIsKept() throws Exception {
+        long sessionId = createSession("team-invite-race");
+        long initialVersion = sessionService.getSession(sessionId).getVersion();
+        List<String> invitees = List.of("bob", "charlie", "dave");
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Session>> results;
+        try (ExecutorService executor = Executors.newFixedThreadPool(invitees.size())) {
+            results = invitees.stream()
+                    .map(invitee -> executor.submit(() -> {
+                        start.await();
+                        return sessionService.inviteUser(sessionId, "alice", List.of(invitee));
+                    }))
+                    .toList();
+            start.countDown();
+        }
+
+        for (Future<Session> result : results) {
+            assertThat(result.get()).isNotNull();
+        }
+        assertThat(invitees).allMatch(invitee -> sessionRepository.existsInvitedUser(sessionId, invitee));
+        assertThat(sessionService.getSession(sessionId).getVersion()).isEqualTo(initialVersion + invitees.size());
+    }
+
+    @Test
+    void closeSession_bumpsVersion_soStaleCopiesCannotBeSaved() {
+        long sessionId = createSession("team-stale-copy");
+        Session staleCopy = sessionService.getSession(sessionId);
+
+        sessionService.closeSession(sessionId, "Kopitiam");
+
+        assertThat(sessionService.getSession(sessionId).getVersion()).isEqualTo(staleCopy.getVersion() + 1);
+        staleCopy.setName("team-overwritten");
+        assertThatThrownBy(() -> sessionRepository.saveAndFlush(staleCopy))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(sessionService.getSession(sessionId).getName()).isEqualTo("team-stale-copy");
+    }
+
+    @Test
+    void getSessionSummary_countersFollowSubmissionsInvitesAndReset() {
+        long sessionId = createSession("team-aggregates");
+        sessionService.inviteUser(sessionId, "alice", List.of("bob", "charlie"));
+        sessionService.inviteUser(sessionId, "alice", List.of("bob"));
+        restaurantService.addRestaurant(new SubmitRestaurantRequest("Din Tai Fung", sessionId, "team-aggregates"), "bob");
+        restaurantService.addRestaurant(new SubmitRestaurantRequest("KFC", sessionId, "team-aggregates"), "alice");
+        restaurantService.getRandomRestaurant(sessionId, "alice");
+        sessionService.resetSession(sessionId);
+
+        SessionSummary summary = sessionService.getSessionSummary(sessionId);
+
+        assertThat(summary.restaurantCount()).isEqualTo(3);
+        assertThat(summary.submitterCount()).isEqualTo(2);
+        assertThat(summary.inviteeCount()).isEqualTo(2);
+        assertThat(summary.closed()).isFalse();
+    }
+
+    @Test
+    void resetSession_sessionReadByOpenTransaction_isNotBlocked() throws Exception {
+        long sessionId = createSession("team-reset-no-lock");
+        sessionService.closeSession(sessionId, "Kopitiam");
+        TransactionStatus reader = transactionManager.getTransaction(TransactionDefinition.withDefaults());
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            sessionService.getSession(sessionId);
+
+            Future<Session> reset = executor.submit(() -> sessionService.resetSession(sessionId));
+
+            assertThat(reset.get(5, TimeUnit.SECONDS).isClosed()).isFalse();
+        } finally {
+            transactionManager.rollback(reader);
+        }
+    }
+
+    private long createSession(String sessionName) {
+        AtomicReference<Restaurant> restaurant = new AtomicReference<>();
+        AuditorContext.runAs("alice", () -> restaurant.set(restaurantService.addRestaurant(
+                new SubmitRestaurantRequest("Kopitiam", -1L, sessionName), "alice")));
+        return restaurant.get().getSession().getId();
+    }
+}
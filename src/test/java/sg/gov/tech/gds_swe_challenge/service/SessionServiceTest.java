@@ -6,18 +6,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
 import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+import sg.gov.tech.gds_swe_challenge.dto.SessionEvent;
+import sg.gov.tech.gds_swe_challenge.dto.SessionPage;
+import sg.gov.tech.gds_swe_challenge.dto.SessionSummary;
+import sg.gov.tech.gds_swe_challenge.dto.UserSummary;
 import sg.gov.tech.gds_swe_challenge.entity.Session;
 import sg.gov.tech.gds_swe_challenge.entity.User;
 import sg.gov.tech.gds_swe_challenge.repository.SessionRepository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,6 +39,10 @@ class SessionServiceTest {
     private SessionRepository sessionRepository;
     @Mock
     private UserService userService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private String username;
 
@@ -34,7 +50,7 @@ class SessionServiceTest {
 
     @BeforeEach
     void setup() {
-        sut = new SessionService(sessionRepository, userService);
+        sut = new SessionService(sessionRepository, userService, transactionManager, eventPublisher);
         username = "alice";
     }
 
@@ -84,7 +100,7 @@ class SessionServiceTest {
         when(sessionRepository.saveAndFlush(any(Session.class))).thenReturn(savedSession);
         User userThatCanInitiateSession = createUser("alice");
         userThatCanInitiateSession.setCanInitiateSession(true);
-        when(userService.getUser(username)).thenReturn(userThatCanInitiateSession);
+        when(userService.getUser(username)).thenReturn(UserSummary.from(userThatCanInitiateSession));
 
         Session result = sut.getOrCreateSession(sessionId, sessionName, username);
 
@@ -94,6 +110,7 @@ class SessionServiceTest {
         ArgumentCaptor<Session> captor = ArgumentCaptor.forClass(Session.class);
         verify(sessionRepository).saveAndFlush(captor.capture());
         assertThat(captor.getValue().getName()).isEqualTo("new-team");
+        verify(eventPublisher).publishEvent(SessionEvent.sessionCreated(sessionId, "new-team"));
     }
 
     @Test
@@ -103,7 +120,7 @@ class SessionServiceTest {
 
         User userThatCannotInitiateSession = createUser("alice");
         userThatCannotInitiateSession.setCanInitiateSession(false);
-        when(userService.getUser(username)).thenReturn(userThatCannotInitiateSession);
+        when(userService.getUser(username)).thenReturn(UserSummary.from(userThatCannotInitiateSession));
 
         assertThatThrownBy(() -> sut.getOrCreateSession(sessionId, "new-team", username))
                 .isInstanceOf(IllegalStateException.class)
@@ -117,30 +134,90 @@ class SessionServiceTest {
     void closeSession_validSession_updatesAndSaves() {
         long sessionId = 4L;
         String selectedRestaurant = "Kopitiam";
-        Session openSession = new Session();
-        openSession.setId(sessionId);
-        openSession.setClosed(false);
-        when(sessionRepository.findByIdAndIsClosedFalse(sessionId)).thenReturn(Optional.of(openSession));
+        when(sessionRepository.closeIfOpen(sessionId, selectedRestaurant)).thenReturn(1);
 
         sut.closeSession(sessionId, selectedRestaurant);
 
-        assertThat(openSession.isClosed()).isTrue();
-        assertThat(openSession.getSelectedRestaurant()).isEqualTo("Kopitiam");
-        verify(sessionRepository).findByIdAndIsClosedFalse(sessionId);
-        verify(sessionRepository).saveAndFlush(openSession);
+        verify(sessionRepository).closeIfOpen(sessionId, selectedRestaurant);
+        verify(sessionRepository, never()).findByIdAndIsClosedFalse(sessionId);
+        verify(sessionRepository, never()).saveAndFlush(any());
+        verify(eventPublisher).publishEvent(SessionEvent.sessionClosed(sessionId, selectedRestaurant));
     }
 
     @Test
     void closeSession_sessionNotFound_throwsException() {
         long sessionId = 5L;
-        when(sessionRepository.findByIdAndIsClosedFalse(sessionId)).thenReturn(Optional.empty());
+        when(sessionRepository.closeIfOpen(sessionId, "Pizza Hut")).thenReturn(0);
 
         assertThatThrownBy(() -> sut.closeSession(sessionId, "Pizza Hut"))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage("Unable to find open session with id: 5");
 
-        verify(sessionRepository).findByIdAndIsClosedFalse(sessionId);
+        verify(sessionRepository).closeIfOpen(sessionId, "Pizza Hut");
         verify(sessionRepository, never()).saveAndFlush(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void reserveRestaurantOrdinals_incrementsCounterAndReturnsFirstOrdinal() {
+        long sessionId = 4L;
+        when(sessionRepository.incrementRestaurantCount(sessionId, 2)).thenReturn(1);
+        when(sessionRepository.findRestaurantCountById(sessionId)).thenReturn(5L);
+
+        long firstOrdinal = sut.reserveRestaurantOrdinals(sessionId, 2);
+
+        assertThat(firstOrdinal).isEqualTo(3L);
+        verify(sessionRepository).incrementRestaurantCount(sessionId, 2);
+    }
+
+    @Test
+    void reserveRestaurantOrdinals_sessionClosedMeanwhile_throwsException() {
+        long sessionId = 4L;
+        when(sessionRepository.incrementRestaurantCount(sessionId, 2)).thenReturn(0);
+
+        assertThatThrownBy(() -> sut.reserveRestaurantOrdinals(sessionId, 2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Session is already closed for restaurant submissions");
+
+        verify(sessionRepository, never()).findRestaurantCountById(anyLong());
+    }
+
+    @Test
+    void recordSubmitters_firstTimeSubmitters_incrementsSubmitterCount() {
+        long sessionId = 4L;
+        when(sessionRepository.insertSubmitterIfAbsent(sessionId, "alice")).thenReturn(0);
+        when(sessionRepository.insertSubmitterIfAbsent(sessionId, "bob")).thenReturn(1);
+
+        sut.recordSubmitters(sessionId, List.of("alice", "bob"));
+
+        verify(sessionRepository).incrementSubmitterCount(sessionId, 1);
+    }
+
+    @Test
+    void recordSubmitters_returningSubmitter_leavesCountUntouched() {
+        long sessionId = 4L;
+        when(sessionRepository.insertSubmitterIfAbsent(sessionId, "alice")).thenReturn(0);
+
+        sut.recordSubmitters(sessionId, List.of("alice"));
+
+        verify(sessionRepository, never()).incrementSubmitterCount(anyLong(), anyLong());
+    }
+
+    @Test
+    void getSessionSummary_found_returnsSummary() {
+        SessionSummary summary = createSummary(7L, "team-summary", false, null);
+        when(sessionRepository.findSummaryById(7L)).thenReturn(Optional.of(summary));
+
+        assertThat(sut.getSessionSummary(7L)).isEqualTo(summary);
+    }
+
+    @Test
+    void getSessionSummary_notFound_throwsIllegalStateException() {
+        when(sessionRepository.findSummaryById(8L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> sut.getSessionSummary(8L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Session not found: 8");
     }
 
     @Test
@@ -250,6 +327,26 @@ class SessionServiceTest {
         Session captured = captor.getValue();
         assertThat(captured.isClosed()).isFalse();
         assertThat(captured.getSelectedRestaurant()).isNull();
+        verify(eventPublisher).publishEvent(SessionEvent.sessionReset(sessionId));
+    }
+
+    @Test
+    void resetSession_versionConflict_rereadsAndRetries() {
+        long sessionId = 17L;
+        Session staleSession = createSession(sessionId, "team-stale", true, "Kopitiam");
+        Session freshSession = createSession(sessionId, "team-stale", true, "Kopitiam");
+        when(sessionRepository.findById(sessionId))
+                .thenReturn(Optional.of(staleSession), Optional.of(freshSession));
+        when(sessionRepository.saveAndFlush(staleSession))
+                .thenThrow(new OptimisticLockingFailureException("Session was updated by another transaction"));
+        when(sessionRepository.saveAndFlush(freshSession)).thenReturn(freshSession);
+
+        Session result = sut.resetSession(sessionId);
+
+        assertThat(result).isSameAs(freshSession);
+        assertThat(result.isClosed()).isFalse();
+        verify(sessionRepository, times(2)).findById(sessionId);
+        verify(transactionManager, times(2)).getTransaction(any());
     }
 
     @Test
@@ -282,39 +379,67 @@ class SessionServiceTest {
     }
 
     @Test
-    void getSessions_returnsAllSessions() {
-        List<Session> expectedSessions = List.of(
-                createSession(15L, "GLOBAL", false, null),
-                createSession(16L, "team-epsilon", true, "Food Republic")
+    void getSessions_lastPage_returnsAllSessionsWithoutCursor() {
+        List<SessionSummary> expectedSessions = List.of(
+                createSummary(15L, "GLOBAL", false, null),
+                createSummary(16L, "team-epsilon", true, "Food Republic")
         );
-        when(sessionRepository.findAll()).thenReturn(expectedSessions);
+        when(sessionRepository.findSummaries(null, null, null, PageRequest.ofSize(3))).thenReturn(expectedSessions);
 
-        List<Session> result = sut.getSessions();
+        SessionPage result = sut.getSessions(null, null, null, 2);
 
-        assertThat(result).isEqualTo(expectedSessions);
-        verify(sessionRepository).findAll();
+        assertThat(result.items()).isEqualTo(expectedSessions);
+        assertThat(result.nextCursor()).isNull();
     }
 
     @Test
-    void getSessions_emptyList_returnsEmptyList() {
-        when(sessionRepository.findAll()).thenReturn(List.of());
+    void getSessions_morePages_returnsCursorOfLastItem() {
+        List<SessionSummary> sessions = List.of(
+                createSummary(15L, "GLOBAL", false, null),
+                createSummary(16L, "team-epsilon", true, "Food Republic"),
+                createSummary(17L, "team-zeta", false, null)
+        );
+        when(sessionRepository.findSummaries(14L, false, "alice", PageRequest.ofSize(3))).thenReturn(sessions);
+
+        SessionPage result = sut.getSessions(14L, false, "alice", 2);
 
-        List<Session> result = sut.getSessions();
+        assertThat(result.items()).extracting(SessionSummary::id).containsExactly(15L, 16L);
+        assertThat(result.nextCursor()).isEqualTo(16L);
+    }
 
-        assertThat(result).isEmpty();
-        verify(sessionRepository).findAll();
+    @Test
+    void getSessions_limitOutOfRange_isClamped() {
+        when(sessionRepository.findSummaries(null, null, null, PageRequest.ofSize(SessionService.MAX_PAGE_SIZE + 1)))
+                .thenReturn(List.of());
+        when(sessionRepository.findSummaries(null, null, null, PageRequest.ofSize(2)))
+                .thenReturn(List.of());
+
+        assertThat(sut.getSessions(null, null, null, 100_000).items()).isEmpty();
+        assertThat(sut.getSessions(null, null, null, 0).items()).isEmpty();
     }
 
     @Test
     void getSessions_repositoryThrowsException_propagatesException() {
-        when(sessionRepository.findAll())
+        when(sessionRepository.findSummaries(null, null, null, PageRequest.ofSize(51)))
                 .thenThrow(new RuntimeException("Database error"));
 
-        assertThatThrownBy(() -> sut.getSessions())
+        assertThatThrownBy(() -> sut.getSessions(null, null, null, 50))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Database error");
+    }
 
-        verify(sessionRepository).findAll();
+    @Test
+    void streamSessions_passesEverySummaryToConsumer() {
+        List<SessionSummary> sessions = List.of(
+                createSummary(15L, "GLOBAL", false, null),
+                createSummary(16L, "team-epsilon", true, "Food Republic")
+        );
+        when(sessionRepository.streamSummaries(true, null)).thenReturn(sessions.stream());
+        List<SessionSummary> streamed = new ArrayList<>();
+
+        sut.streamSessions(true, null, streamed::add);
+
+        assertThat(streamed).isEqualTo(sessions);
     }
 
 
@@ -330,9 +455,8 @@ class SessionServiceTest {
         );
 
         when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
-        when(userService.getUser("alice")).thenReturn(creator);
-        when(userService.getUser("bob")).thenReturn(invitees.get(0));
-        when(userService.getUser("charlie")).thenReturn(invitees.get(1));
+        when(userService.getUser("alice")).thenReturn(UserSummary.from(creator));
+        when(userService.getExistingUsers(List.of("bob", "charlie"))).thenReturn(invitees);
         Session savedSession = new Session();
         savedSession.setId(sessionId);
         when(sessionRepository.saveAndFlush(session)).thenReturn(savedSession);
@@ -341,6 +465,7 @@ class SessionServiceTest {
 
         assertThat(result.getId()).isEqualTo(sessionId);
         assertThat(session.getInvitedUsers()).hasSize(2);
+        assertThat(session.getInviteeCount()).isEqualTo(2);
         assertThat(session.getInvitedUsers())
                 .extracting(User::getUsername)
                 .containsExactlyInAnyOrder("bob", "charlie");
@@ -348,8 +473,45 @@ class SessionServiceTest {
         verify(sessionRepository).findById(sessionId);
         verify(sessionRepository).saveAndFlush(session);
         verify(userService).getUser("alice");
-        verify(userService).getUser("bob");
-        verify(userService).getUser("charlie");
+        verify(userService).getExistingUsers(List.of("bob", "charlie"));
+        verify(eventPublisher).publishEvent(SessionEvent.usersInvited(sessionId, List.of("bob", "charlie")));
+    }
+
+    @Test
+    void inviteUser_conflictPersists_givesUpAfterMaxAttempts() {
+        long sessionId = 52L;
+        Session session = createSession(sessionId, "team-contended", false, null);
+        session.setCreatedBy("alice");
+
+        when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+        when(userService.getUser("alice")).thenReturn(UserSummary.from(createUser("alice")));
+        when(userService.getExistingUsers(List.of("bob"))).thenReturn(List.of(createUser("bob")));
+        when(sessionRepository.saveAndFlush(session))
+                .thenThrow(new OptimisticLockingFailureException("Session was updated by another transaction"));
+
+        assertThatThrownBy(() -> sut.inviteUser(sessionId, "alice", List.of("bob")))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        verify(sessionRepository, times(SessionService.MAX_CONFLICT_ATTEMPTS)).saveAndFlush(session);
+    }
+
+    @Test
+    void inviteUser_unknownUsernames_throwsIllegalArgumentException() {
+        long sessionId = 55L;
+        Session session = createSession(sessionId, "team-unknown", false, null);
+        session.setCreatedBy("alice");
+
+        when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
+        when(userService.getUser("alice")).thenReturn(UserSummary.from(createUser("alice")));
+        when(userService.getExistingUsers(List.of("bob", "ghost", "phantom")))
+                .thenThrow(new IllegalArgumentException("Users not found: ghost, phantom"));
+
+        assertThatThrownBy(() -> sut.inviteUser(sessionId, "alice", List.of("bob", "ghost", "phantom")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Users not found: ghost, phantom");
+
+        assertThat(session.getInvitedUsers()).isEmpty();
+        verify(sessionRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -360,7 +522,7 @@ class SessionServiceTest {
         User nonCreator = createUser("non-creator");
 
         when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
-        when(userService.getUser("non-creator")).thenReturn(nonCreator);
+        when(userService.getUser("non-creator")).thenReturn(UserSummary.from(nonCreator));
 
         assertThatThrownBy(() -> sut.inviteUser(sessionId, "non-creator", List.of("bob")))
                 .isInstanceOf(IllegalStateException.class)
@@ -369,7 +531,7 @@ class SessionServiceTest {
         verify(sessionRepository).findById(sessionId);
         verify(userService).getUser("non-creator");
         verify(sessionRepository, never()).saveAndFlush(any());
-        verify(userService, never()).getUser("bob");
+        verify(userService, never()).getExistingUsers(any());
     }
 
     @Test
@@ -379,7 +541,7 @@ class SessionServiceTest {
         closedSession.setCreatedBy("alice");
 
         when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(closedSession));
-        when(userService.getUser("alice")).thenReturn(createUser("alice"));
+        when(userService.getUser("alice")).thenReturn(UserSummary.from(createUser("alice")));
 
         assertThatThrownBy(() -> sut.inviteUser(sessionId, "alice", List.of("bob")))
                 .isInstanceOf(IllegalStateException.class)
@@ -398,7 +560,8 @@ class SessionServiceTest {
         User creator = createUser("dave");
 
         when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
-        when(userService.getUser("dave")).thenReturn(creator);
+        when(userService.getUser("dave")).thenReturn(UserSummary.from(creator));
+        when(userService.getExistingUsers(List.of())).thenReturn(List.of());
         when(sessionRepository.saveAndFlush(session)).thenReturn(session);
 
         sut.inviteUser(sessionId, "dave", List.of());
@@ -415,13 +578,13 @@ class SessionServiceTest {
         User bob = createUser("bob");
 
         when(sessionRepository.findById(sessionId)).thenReturn(Optional.of(session));
-        when(userService.getUser("alice")).thenReturn(createUser("alice"));
-        when(userService.getUser("bob")).thenReturn(bob);
+        when(userService.getUser("alice")).thenReturn(UserSummary.from(createUser("alice")));
+        when(userService.getExistingUsers(List.of("bob", "bob"))).thenReturn(List.of(bob));
         when(sessionRepository.saveAndFlush(session)).thenReturn(session);
 
         sut.inviteUser(sessionId, "alice", List.of("bob", "bob"));
 
-        verify(userService).getUser("bob");
+        assertThat(session.getInvitedUsers()).containsExactly(bob);
     }
 
     @Test
@@ -436,9 +599,22 @@ class SessionServiceTest {
     void validateUserCanSubmit_openSession_invitedUser_passes() {
         long sessionId = 70L;
         Session openSession = createSession(sessionId, "team-open", false, null);
-        openSession.getInvitedUsers().add(createUser("alice"));
+        when(sessionRepository.existsInvitedUser(sessionId, "alice")).thenReturn(true);
 
         sut.validateUserCanSubmit(openSession, "alice");
+
+        verify(sessionRepository).existsInvitedUser(sessionId, "alice");
+    }
+
+    @Test
+    void validateUserCanSubmit_openSession_creator_passesWithoutLookup() {
+        long sessionId = 73L;
+        Session openSession = createSession(sessionId, "team-73", false, null);
+        openSession.setCreatedBy("alice");
+
+        sut.validateUserCanSubmit(openSession, "alice");
+
+        verify(sessionRepository, never()).existsInvitedUser(anyLong(), anyString());
     }
 
     @Test
@@ -461,6 +637,10 @@ class SessionServiceTest {
                 .hasMessage("Cannot validate submission for session 72: Session 72 is closed for submissions");
     }
 
+    private SessionSummary createSummary(Long id, String name, boolean closed, String selectedRestaurant) {
+        return new SessionSummary(id, name, closed, selectedRestaurant, 0L, 0L, 0L, name, null, null);
+    }
+
     private Session createSession(Long id, String name, boolean closed, String selectedRestaurant) {
         Session session = new Session();
         session.setId(id);
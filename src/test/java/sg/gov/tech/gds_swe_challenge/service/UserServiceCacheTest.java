@@ -0,0 +1,106 @@
+package sg.gov.tech.gds_swe_challenge.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import sg.gov.tech.gds_swe_challenge.constant.AppConstants;
+import sg.gov.tech.gds_swe_challenge.dto.UserSummary;
+import sg.gov.tech.gds_swe_challenge.entity.User;
+import sg.gov.tech.gds_swe_challenge.repository.UserRepository;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+class UserServiceCacheTest {
+    @Autowired
+    private UserService sut;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setup() {
+        sut.evictAllUsers();
+    }
+
+    @Test
+    void getUser_repeatedLookup_hitsRepositoryOnce() {
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(createUser("alice")));
+
+        assertThat(sut.getUser("alice")).isEqualTo(new UserSummary("alice", true));
+        assertThat(sut.getUser("alice")).isSameAs(sut.getUser("alice"));
+
+        verify(userRepository, times(1)).findByUsername("alice");
+    }
+
+    @Test
+    void getUser_entityChangedAfterLookup_cachedUserUnchanged() {
+        User alice = createUser("alice");
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        sut.getUser("alice");
+
+        alice.setCanInitiateSession(false);
+
+        assertThat(sut.getUser("alice").canInitiateSession()).isTrue();
+    }
+
+    @Test
+    void getUser_notFound_isNotCached() {
+        when(userRepository.findByUsername("bob")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> sut.getUser("bob")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sut.getUser("bob")).isInstanceOf(IllegalArgumentException.class);
+
+        verify(userRepository, times(2)).findByUsername("bob");
+    }
+
+    @Test
+    void evictAllUsers_clearsCache() {
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(createUser("alice")));
+        sut.getUser("alice");
+
+        sut.evictAllUsers();
+
+        assertThat(cacheManager.getCache(AppConstants.USER_CACHE).get("alice")).isNull();
+    }
+
+    private User createUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setCanInitiateSession(true);
+        return user;
+    }
+
+    @Configuration
+    @EnableCaching
+    static class CacheTestConfig {
+        @Bean
+        CacheManager cacheManager() {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager(AppConstants.USER_CACHE);
+            cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100));
+            return cacheManager;
+        }
+
+        @Bean
+        UserService userService(UserRepository userRepository) {
+            return new UserService(userRepository);
+        }
+    }
+}
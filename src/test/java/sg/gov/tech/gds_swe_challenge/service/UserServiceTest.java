@@ -5,14 +5,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import sg.gov.tech.gds_swe_challenge.dto.UserSummary;
 import sg.gov.tech.gds_swe_challenge.entity.User;
 import sg.gov.tech.gds_swe_challenge.repository.UserRepository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,9 +40,9 @@ class UserServiceTest {
         alice.setCanInitiateSession(true);
         when(userRepository.findByUsername(username)).thenReturn(Optional.of(alice));
 
-        User result = sut.getUser(username);
+        UserSummary result = sut.getUser(username);
 
-        assertThat(result).isEqualTo(alice);
+        assertThat(result).isEqualTo(new UserSummary(username, true));
     }
 
     @Test
@@ -99,6 +104,42 @@ class UserServiceTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getUsers_aboveChunkSize_queriesInChunks() {
+        List<String> usernames = IntStream.range(0, UserService.USERNAME_LOOKUP_CHUNK_SIZE * 2 + 1)
+                .mapToObj(i -> "user" + i)
+                .toList();
+        when(userRepository.findAllByUsernameIn(anyList()))
+                .thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                        .map(this::createUser)
+                        .toList());
+
+        List<User> result = sut.getUsers(usernames);
+
+        assertThat(result).extracting(User::getUsername).containsExactlyElementsOf(usernames);
+        verify(userRepository, times(3)).findAllByUsernameIn(anyList());
+    }
+
+    @Test
+    void getExistingUsers_allFound_returnsDistinctUsers() {
+        List<User> users = List.of(createUser("alice"), createUser("bob"));
+        when(userRepository.findAllByUsernameIn(List.of("alice", "bob"))).thenReturn(users);
+
+        List<User> result = sut.getExistingUsers(List.of("alice", "bob", "alice"));
+
+        assertThat(result).isEqualTo(users);
+    }
+
+    @Test
+    void getExistingUsers_someNotFound_throwsExceptionListingAllUnknown() {
+        when(userRepository.findAllByUsernameIn(List.of("alice", "ghost", "phantom")))
+                .thenReturn(List.of(createUser("alice")));
+
+        assertThatThrownBy(() -> sut.getExistingUsers(List.of("alice", "ghost", "phantom")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Users not found: ghost, phantom");
+    }
+
     private User createUser(String username) {
         User user = new User();
         user.setUsername(username);